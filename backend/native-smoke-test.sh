@@ -0,0 +1,119 @@
+#!/bin/bash
+
+# WorkTrack native image smoke test
+# Builds the native image (Dockerfile target "native"), starts it against a throwaway
+# PostgreSQL container and exercises login and the order endpoints.
+#
+# Usage: ./native-smoke-test.sh [--no-build]
+# Requires: docker, curl, jq
+
+set -e  # Exit on error
+
+IMAGE=worktrack-backend:native
+NETWORK=worktrack-smoke
+DB_CONTAINER=worktrack-smoke-db
+APP_CONTAINER=worktrack-smoke-backend
+PORT=18080
+BASE_URL="http://localhost:${PORT}"
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+cleanup() {
+    docker rm -f "$APP_CONTAINER" "$DB_CONTAINER" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+fail() {
+    echo -e "${RED}❌ $1${NC}"
+    docker logs --tail 50 "$APP_CONTAINER" 2>/dev/null || true
+    exit 1
+}
+
+# Checks the HTTP status of a request: expect <status> <curl args...>
+expect() {
+    local expected=$1
+    shift
+    local status
+    status=$(curl -s -o /tmp/worktrack-smoke.json -w '%{http_code}' "$@")
+    [ "$status" = "$expected" ] || fail "Expected HTTP $expected, got $status: $*"
+}
+
+cd "$(dirname "$0")"
+
+if [ "$1" != "--no-build" ]; then
+    echo -e "${YELLOW}🔨 Building native image (several minutes)...${NC}"
+    docker build --target native -t "$IMAGE" .
+fi
+
+cleanup
+docker network create "$NETWORK" >/dev/null
+
+echo -e "${YELLOW}🐘 Starting PostgreSQL...${NC}"
+docker run -d --name "$DB_CONTAINER" --network "$NETWORK" \
+    -e POSTGRES_DB=worktrackdb -e POSTGRES_USER=worktrack -e POSTGRES_PASSWORD=smoke \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB_CONTAINER" pg_isready -U worktrack -d worktrackdb >/dev/null 2>&1; do
+    sleep 1
+done
+
+echo -e "${YELLOW}🚀 Starting native backend...${NC}"
+START=$(date +%s%N)
+docker run -d --name "$APP_CONTAINER" --network "$NETWORK" -p "${PORT}:8080" \
+    -e DB_URL="jdbc:postgresql://${DB_CONTAINER}:5432/worktrackdb" \
+    -e DB_USERNAME=worktrack -e DB_PASSWORD=smoke \
+    "$IMAGE" >/dev/null
+
+for _ in $(seq 1 300); do
+    if curl -sf "${BASE_URL}/actuator/health" >/dev/null 2>&1; then
+        break
+    fi
+    sleep 0.1
+done
+curl -sf "${BASE_URL}/actuator/health" >/dev/null || fail "Backend did not become healthy"
+READY_MS=$(( ($(date +%s%N) - START) / 1000000 ))
+echo -e "${GREEN}✓ Healthy after ${READY_MS} ms (includes container start and migrations)${NC}"
+docker logs "$APP_CONTAINER" 2>&1 | grep -m1 "Started BackendApplication" || true
+
+echo -e "${YELLOW}🔐 Login...${NC}"
+expect 200 -X POST "${BASE_URL}/api/auth/login" -H 'Content-Type: application/json' \
+    -d '{"email":"admin@worktrack.com","password":"admin123"}'
+TOKEN=$(jq -r '.token' /tmp/worktrack-smoke.json)
+[ -n "$TOKEN" ] && [ "$TOKEN" != "null" ] || fail "Login returned no token"
+AUTH=(-H "Authorization: Bearer ${TOKEN}")
+expect 401 "${BASE_URL}/api/orders?limit=1"
+echo -e "${GREEN}✓ Login${NC}"
+
+echo -e "${YELLOW}📋 Orders...${NC}"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders?limit=20"
+ORDER_ID=$(jq -r '.items[0].id' /tmp/worktrack-smoke.json)
+ASSIGNEE_ID=$(jq -r '.items[0].assignedTo.id' /tmp/worktrack-smoke.json)
+[ "$ORDER_ID" != "null" ] || fail "Order list is empty"
+
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders/${ORDER_ID}"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders/${ORDER_ID}/history"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders/filter?status=PENDING&size=10"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders/search?q=Engine"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/orders/changes"
+
+DEADLINE=$(date -d '+14 days' +%Y-%m-%d 2>/dev/null || date -v+14d +%Y-%m-%d)
+expect 201 "${AUTH[@]}" -X POST "${BASE_URL}/api/orders" -H 'Content-Type: application/json' \
+    -d "{\"product\":\"Smoke Test Part\",\"priority\":\"HIGH\",\"assignedToId\":${ASSIGNEE_ID},\"deadline\":\"${DEADLINE}\"}"
+NEW_ID=$(jq -r '.id' /tmp/worktrack-smoke.json)
+
+expect 200 "${AUTH[@]}" -X PATCH "${BASE_URL}/api/orders/${NEW_ID}/status" -H 'Content-Type: application/json' \
+    -d '{"newStatus":"IN_PROGRESS","comment":"smoke test"}'
+[ "$(jq -r '.status' /tmp/worktrack-smoke.json)" = "IN_PROGRESS" ] || fail "Status change not applied"
+
+expect 204 "${AUTH[@]}" -X DELETE "${BASE_URL}/api/orders/${NEW_ID}"
+expect 200 "${AUTH[@]}" "${BASE_URL}/api/dashboard"
+echo -e "${GREEN}✓ Order endpoints${NC}"
+
+echo -e "${YELLOW}📊 Resident memory:${NC}"
+docker stats --no-stream --format '{{.Name}}: {{.MemUsage}}' "$APP_CONTAINER"
+
+echo -e "${GREEN}✅ Native smoke test passed${NC}"
@@ -0,0 +1,71 @@
+package com.worktrack.backend.benchmark;
+
+import com.worktrack.backend.security.AuthTokenFilter;
+import com.worktrack.backend.security.JwtUtils;
+import com.worktrack.backend.security.UserDetailsImpl;
+import com.worktrack.backend.security.UserStatusService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthTokenFilter de principio a fin: cabecera Authorization, verificación del token
+ * (en caché o no), principal a partir de las claims y comprobación del estado del usuario,
+ * que aquí responde como la caché USER_STATUS caliente. Cada invocación usa una petición
+ * nueva, como en Tomcat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthTokenFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean tokenCache;
+
+    private AuthTokenFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setup() {
+        JwtUtils jwtUtils = JwtBenchmark.jwtUtils(tokenCache ? 10_000 : 0);
+        UserDetailsImpl principal = BenchmarkData.principal();
+        Optional<UserStatusService.UserStatus> status =
+                Optional.of(new UserStatusService.UserStatus(true, principal.getRole()));
+
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(filter, "userStatusService", new UserStatusService() {
+            @Override
+            public Optional<UserStatus> getStatus(Long userId) {
+                return status;
+            }
+        });
+
+        String token = jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(principal, null));
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
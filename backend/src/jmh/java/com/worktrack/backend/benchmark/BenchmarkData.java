@@ -0,0 +1,124 @@
+package com.worktrack.backend.benchmark;
+
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.entity.Customer;
+import com.worktrack.backend.entity.Material;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.StatusLog;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.security.UserDetailsImpl;
+import com.worktrack.backend.service.OrderMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Datos sintéticos con la forma de los de producción: órdenes con sus asociaciones
+ * cargadas (como tras Order.GRAPH_DETAILS) e historiales de estado.
+ */
+final class BenchmarkData {
+
+    static final String JWT_SECRET = "worktrack2025secretkeymustbelongenoughforhs512algorithm";
+
+    private static final String[] PRODUCTS = {
+            "Engine Block", "Transmission Gear", "Brake Disc", "Exhaust Manifold", "Cylinder Head",
+            "Crankshaft", "Camshaft", "Piston Set", "Valve Assembly", "Intake Manifold"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static List<Order> orders(int count) {
+        Random random = new Random(42);
+        List<User> operators = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            operators.add(user((long) i, "operator" + i + "@worktrack.com", "Operador " + i, User.Role.OPERATOR));
+        }
+        User admin = user(100L, "admin@worktrack.com", "Administrador", User.Role.ADMIN);
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            Customer customer = new Customer();
+            customer.setId((long) i);
+            customer.setName("Customer " + i);
+            customer.setCompany("Company " + i);
+            customers.add(customer);
+        }
+        List<Material> materials = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Material material = new Material();
+            material.setId((long) i);
+            material.setName("Material " + i);
+            material.setUnit("kg");
+            materials.add(material);
+        }
+
+        Order.Status[] statuses = Order.Status.values();
+        Order.Priority[] priorities = Order.Priority.values();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String product = PRODUCTS[random.nextInt(PRODUCTS.length)];
+            Order order = new Order();
+            order.setId((long) i);
+            order.setProduct(product);
+            order.setDescription("Production order for " + product + " - Batch #" + String.format("%04d", i));
+            order.setPriority(priorities[random.nextInt(priorities.length)]);
+            order.setStatus(statuses[random.nextInt(statuses.length)]);
+            order.setAssignedTo(operators.get(random.nextInt(operators.size())));
+            order.setCreatedBy(admin);
+            order.setCustomer(customers.get(random.nextInt(customers.size())));
+            if (random.nextDouble() < 0.8) {
+                order.setMaterial(materials.get(random.nextInt(materials.size())));
+            }
+            order.setQuantity(1.0 + random.nextInt(100));
+            order.setDeadline(LocalDate.of(2025, 2, 1).plusDays(random.nextInt(60)));
+            order.setMachine("CNC-00" + (1 + random.nextInt(3)));
+            order.setCreatedAt(now.minusDays(random.nextInt(180)));
+            order.setUpdatedAt(now);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    static List<OrderResponse> responses(int count) {
+        OrderMapper mapper = new OrderMapper();
+        return orders(count).stream().map(mapper::toResponse).toList();
+    }
+
+    // Historial de una orden, del cambio más reciente al más antiguo
+    static List<StatusLog> statusLogs(Order order, int count) {
+        Order.Status[] statuses = Order.Status.values();
+        List<StatusLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StatusLog log = new StatusLog();
+            log.setId((long) (count - i));
+            log.setOrder(order);
+            log.setPreviousStatus(statuses[(i + 1) % statuses.length]);
+            log.setNewStatus(statuses[i % statuses.length]);
+            log.setComment("Cambio de estado " + (count - i));
+            log.setChangedBy(order.getAssignedTo());
+            log.setCreatedAt(order.getUpdatedAt().minusHours(i));
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    static UserDetailsImpl principal() {
+        return new UserDetailsImpl(7L, "operator7@worktrack.com", "Operador 7", null, User.Role.OPERATOR, true);
+    }
+
+    private static User user(Long id, String email, String name, User.Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setName(name);
+        user.setRole(role);
+        user.setActive(true);
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package com.worktrack.backend.benchmark;
+
+import com.worktrack.backend.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y verificación de tokens. parseClaimsCached es el caso habitual (el mismo token
+ * en cada petición del cliente); parseClaimsUncached mide la verificación de firma y la
+ * decodificación completas, con la caché de tokens verificados desactivada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private JwtUtils uncachedJwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtils = jwtUtils(10_000);
+        uncachedJwtUtils = jwtUtils(0);
+        authentication = new UsernamePasswordAuthenticationToken(BenchmarkData.principal(), null);
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public Claims parseClaimsCached() {
+        return jwtUtils.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseClaimsUncached() {
+        return uncachedJwtUtils.parseClaims(token);
+    }
+
+    static JwtUtils jwtUtils(long verifiedCacheMaxSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", BenchmarkData.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        ReflectionTestUtils.setField(jwtUtils, "meterRegistry", new SimpleMeterRegistry());
+        jwtUtils.init();
+        return jwtUtils;
+    }
+}
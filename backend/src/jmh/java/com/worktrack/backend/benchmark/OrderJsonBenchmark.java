@@ -0,0 +1,62 @@
+package com.worktrack.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.backend.dto.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de listados de OrderResponse con la configuración de Spring Boot
+ * (JavaTimeModule, fechas ISO). Se escribe a un stream nulo para medir el serializador
+ * y no el crecimiento de un buffer en memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OrderJsonBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<OrderResponse> responses;
+    private OutputStream sink;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responses = BenchmarkData.responses(size);
+        // OutputStream.nullOutputStream() falla tras el close() que hace writeValue
+        sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        objectMapper.writeValue(sink, responses);
+    }
+
+    // Como la exportación NDJSON: un documento por orden
+    @Benchmark
+    public void writeNdjson() throws IOException {
+        for (OrderResponse response : responses) {
+            sink.write(objectMapper.writeValueAsBytes(response));
+            sink.write('\n');
+        }
+    }
+}
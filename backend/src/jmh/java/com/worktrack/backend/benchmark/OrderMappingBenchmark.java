@@ -0,0 +1,91 @@
+package com.worktrack.backend.benchmark;
+
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.StatusLog;
+import com.worktrack.backend.repository.StatusLogRepository;
+import com.worktrack.backend.service.OrderMapper;
+import com.worktrack.backend.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entidad -> DTO: OrderMapper.toResponse (listados, exportación) y
+ * OrderService.mapToResponseWithLogs (detalle con los últimos cambios de estado).
+ * El repositorio de historial devuelve datos en memoria: solo se mide el mapeo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    // Cambios de estado en el historial de la orden (el detalle incluye como mucho 20)
+    @Param({"5", "100"})
+    private int statusLogCount;
+
+    private OrderMapper orderMapper;
+    private List<Order> orders;
+    private Order order;
+    private MethodHandle mapToResponseWithLogs;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        orderMapper = new OrderMapper();
+        orders = BenchmarkData.orders(1000);
+        order = orders.get(0);
+        List<StatusLog> logs = BenchmarkData.statusLogs(order, statusLogCount);
+
+        OrderService orderService = new OrderService();
+        ReflectionTestUtils.setField(orderService, "orderMapper", orderMapper);
+        ReflectionTestUtils.setField(orderService, "statusLogRepository", statusLogRepository(logs));
+        ReflectionTestUtils.setField(orderService, "statusLogLimit", 20);
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(OrderService.class, MethodHandles.lookup());
+        mapToResponseWithLogs = lookup.findVirtual(OrderService.class, "mapToResponseWithLogs",
+                MethodType.methodType(OrderResponse.class, Order.class)).bindTo(orderService);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void toResponseList(Blackhole blackhole) {
+        for (Order o : orders) {
+            blackhole.consume(orderMapper.toResponse(o));
+        }
+    }
+
+    @Benchmark
+    public OrderResponse mapToResponseWithLogs() throws Throwable {
+        return (OrderResponse) mapToResponseWithLogs.invokeExact(order);
+    }
+
+    // Solo implementa la consulta del detalle, con la semántica del Pageable (primera página)
+    private static StatusLogRepository statusLogRepository(List<StatusLog> logs) {
+        return (StatusLogRepository) Proxy.newProxyInstance(
+                StatusLogRepository.class.getClassLoader(),
+                new Class<?>[]{StatusLogRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByOrderIdOrderByCreatedAtDescIdDesc")) {
+                        Pageable pageable = (Pageable) args[1];
+                        return logs.subList(0, Math.min(pageable.getPageSize(), logs.size()));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,39 @@
+package com.worktrack.backend.benchmark;
+
+import com.worktrack.backend.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order.Status/Priority.valueOf tal como lo usan OrderService, los filtros y la importación
+ * CSV. El caso inválido mide la excepción que acaba en un 400.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusParsingBenchmark {
+
+    @Param({"IN_PROGRESS", "DELIVERED", "INVALID"})
+    private String status;
+
+    @Param({"HIGH", "LOW"})
+    private String priority;
+
+    @Benchmark
+    public Order.Status statusValueOf() {
+        try {
+            return Order.Status.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Order.Priority priorityValueOf() {
+        return Order.Priority.valueOf(priority);
+    }
+}
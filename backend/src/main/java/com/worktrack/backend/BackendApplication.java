@@ -12,6 +12,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
@@ -28,9 +29,10 @@ public class BackendApplication {
     }
 
     /**
-     * Inicializa datos de prueba en la base de datos
+     * Inicializa datos de prueba en la base de datos (con el perfil datagen los genera DatasetGenerator)
      */
     @Bean
+    @Profile("!datagen")
     CommandLineRunner initDatabase(
             UserRepository userRepository,
             CustomerRepository customerRepository,
@@ -0,0 +1,45 @@
+package com.worktrack.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Executor de las respuestas asíncronas de MVC (StreamingResponseBody de la exportación NDJSON).
+ * Boot solo crea applicationTaskExecutor si no hay ningún otro Executor, y exportExecutor y
+ * orderEventsExecutor lo impiden; sin él MVC recurre a un SimpleAsyncTaskExecutor de hilos de
+ * plataforma sin límite. Se declara aquí con los builders de Boot, así que respeta
+ * spring.task.execution.* y spring.threads.virtual.enabled.
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder;
+
+    @Autowired
+    private ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder;
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        if (virtualThreads) {
+            // Un hilo virtual por tarea
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor());
+    }
+}
@@ -0,0 +1,74 @@
+package com.worktrack.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caché en proceso para datos de referencia (clientes, materiales, usuarios).
+ * Las cachés se invalidan desde los servicios que escriben en cada tabla; el TTL
+ * limita el desfase si alguien modifica la base de datos por otra vía.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Listados completos (una sola entrada cada uno)
+    public static final String CUSTOMERS = "customers";
+    public static final String MATERIALS = "materials";
+    public static final String OPERATORS = "operators";
+    public static final String ACTIVE_USERS = "activeUsers";
+
+    // Respuestas por id
+    public static final String CUSTOMER_BY_ID = "customerById";
+    public static final String MATERIAL_BY_ID = "materialById";
+
+    // Datos de referencia (copias inmutables, no entidades) al crear o editar órdenes
+    public static final String CUSTOMER_REFS = "customerRefs";
+    public static final String MATERIAL_REFS = "materialRefs";
+    public static final String USER_REFS = "userRefs";
+
+    // Estado (activo, rol) de los usuarios autenticados; TTL corto
+    public static final String USER_STATUS = "userStatus";
+
+    @Value("${cache.reference.max-size:1000}")
+    private long maxSize;
+
+    @Value("${cache.reference.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${cache.user-status.ttl-seconds:30}")
+    private long userStatusTtlSeconds;
+
+    // Las invalidaciones se aplican al confirmar la transacción, no antes
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        for (String name : new String[]{CUSTOMERS, MATERIALS, OPERATORS, ACTIVE_USERS}) {
+            cacheManager.registerCustomCache(name, newCache(1, ttlSeconds));
+        }
+        for (String name : new String[]{CUSTOMER_BY_ID, MATERIAL_BY_ID, CUSTOMER_REFS, MATERIAL_REFS, USER_REFS}) {
+            cacheManager.registerCustomCache(name, newCache(maxSize, ttlSeconds));
+        }
+        cacheManager.registerCustomCache(USER_STATUS, newCache(maxSize, userStatusTtlSeconds));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // recordStats() publica aciertos, fallos y expulsiones en /actuator/metrics (cache.gets, cache.evictions)
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> newCache(long size, long ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(Duration.ofSeconds(ttl))
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.worktrack.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExportConfig {
+
+    @Value("${exports.pool-size:2}")
+    private int poolSize;
+
+    @Value("${exports.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Pool y cola acotados: cuando se llenan, las nuevas exportaciones se rechazan.
+    // Con hilos virtuales el límite de exportaciones simultáneas sigue siendo poolSize
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("export-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("export-", 1).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.worktrack.backend.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Ajustes de Micrometer que no se pueden expresar con propiedades management.metrics.*
+ * (ver application.properties).
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+
+    // Repositorios del camino caliente: histograma por método. El resto solo publica count/sum/max
+    private static final Set<String> HISTOGRAM_REPOSITORIES = Set.of("OrderRepository", "StatusLogRepository");
+
+    @Bean
+    public MeterFilter repositoryHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (REPOSITORY_INVOCATIONS.equals(id.getName()) && HISTOGRAM_REPOSITORIES.contains(id.getTag("repository"))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.worktrack.backend.config;
+
+import com.worktrack.backend.dto.*;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Metadatos para la imagen nativa (perfil Maven native). Spring AOT ya cubre los beans,
+ * las entidades JPA y los tipos de los métodos de los controladores; aquí se registra
+ * lo que se resuelve por reflexión fuera de ese alcance. En la JVM no tiene efecto.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.WorkTrackRuntimeHints.class)
+public class NativeHintsConfig {
+
+    // jjwt-api instancia la implementación por nombre (Classes.newInstance)
+    private static final String[] JJWT_IMPL_CLASSES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            // Serializador JSON, descubierto con ServiceLoader
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    // DTOs que se serializan con ObjectMapper directamente (SSE, NDJSON) o dentro de tipos
+    // genéricos (PageResponse<T>, CursorPage<T>) que AOT no puede resolver
+    private static final Class<?>[] DTO_CLASSES = {
+            BulkStatusChangeRequest.class,
+            BulkStatusChangeResponse.class,
+            CursorPage.class,
+            CustomerRequest.class,
+            CustomerResponse.class,
+            DashboardResponse.class,
+            ExportJobRequest.class,
+            ExportJobResponse.class,
+            LoginRequest.class,
+            LoginResponse.class,
+            MaterialRequest.class,
+            MaterialResponse.class,
+            OrderChangesResponse.class,
+            OrderFilter.class,
+            OrderImportResponse.class,
+            OrderRequest.class,
+            OrderResponse.class,
+            PageResponse.class,
+            StatusChangeRequest.class,
+            UserRequest.class,
+            UserResponse.class
+    };
+
+    static class WorkTrackRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : JJWT_IMPL_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // Incluye los DTO anidados (StatusLogDTO, ItemResultDTO...) a través de sus getters
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTO_CLASSES);
+
+            // Migraciones Flyway por base de datos (spring.flyway.locations=classpath:db/migration/{vendor})
+            hints.resources().registerPattern("db/migration/h2/*.sql");
+            hints.resources().registerPattern("db/migration/postgresql/*.sql");
+        }
+    }
+}
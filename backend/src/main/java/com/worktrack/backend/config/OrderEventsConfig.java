@@ -0,0 +1,35 @@
+package com.worktrack.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class OrderEventsConfig {
+
+    @Value("${orders.events.sender-threads:16}")
+    private int senderThreads;
+
+    @Value("${orders.events.max-clients:2000}")
+    private int maxClients;
+
+    // Pool fijo que vacía las colas de los clientes SSE; como mucho hay una tarea pendiente por
+    // cliente, así que la cola de tareas nunca pasa de max-clients. El número de hilos no depende
+    // de los clientes: un envío bloqueado retiene su hilo hasta que Tomcat lo corta
+    // (server.tomcat.connection-timeout) y solo con sender-threads clientes atascados a la vez
+    // esperan los demás. Hilos de plataforma: ResponseBodyEmitter.send escribe dentro de un
+    // bloque synchronized, que fijaría el hilo portador de un hilo virtual mientras dura la escritura
+    @Bean
+    public ThreadPoolTaskExecutor orderEventsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setQueueCapacity(maxClients);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+}
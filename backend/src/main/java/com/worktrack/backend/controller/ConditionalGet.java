@@ -0,0 +1,41 @@
+package com.worktrack.backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional con ETag fuerte. El ETag combina la versión de los datos con la URL
+ * completa (ruta y parámetros), así que el cuerpo solo se calcula si ha cambiado algo.
+ */
+final class ConditionalGet {
+
+    // El navegador guarda la respuesta pero revalida siempre con If-None-Match
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    // Sin versión (recurso inexistente o no visible) se responde sin ETag ni 304
+    static <T> ResponseEntity<T> respond(ServletWebRequest request, String version, Supplier<T> body) {
+        if (version == null) {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+        }
+        String etag = entityTag(request.getRequest(), version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    private static String entityTag(HttpServletRequest request, String version) {
+        String target = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        return "\"" + DigestUtils.md5DigestAsHex((version + "|" + target).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
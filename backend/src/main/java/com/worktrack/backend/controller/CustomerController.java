@@ -3,12 +3,14 @@ package com.worktrack.backend.controller;
 import com.worktrack.backend.dto.CustomerRequest;
 import com.worktrack.backend.dto.CustomerResponse;
 import com.worktrack.backend.service.CustomerService;
+import com.worktrack.backend.service.EntityTagService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -20,18 +22,20 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'OPERATOR')")
-    public ResponseEntity<List<CustomerResponse>> getAllCustomers() {
-        List<CustomerResponse> customers = customerService.getAllCustomers();
-        return ResponseEntity.ok(customers);
+    public ResponseEntity<List<CustomerResponse>> getAllCustomers(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.customersVersion(), customerService::getAllCustomers);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'OPERATOR')")
-    public ResponseEntity<CustomerResponse> getCustomerById(@PathVariable Long id) {
-        CustomerResponse customer = customerService.getCustomerById(id);
-        return ResponseEntity.ok(customer);
+    public ResponseEntity<CustomerResponse> getCustomerById(@PathVariable Long id, ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.customersVersion(),
+                () -> customerService.getCustomerById(id));
     }
 
     @PostMapping
@@ -0,0 +1,41 @@
+package com.worktrack.backend.controller;
+
+import com.worktrack.backend.dto.DashboardResponse;
+import com.worktrack.backend.service.DashboardService;
+import com.worktrack.backend.service.OrderStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        DashboardResponse dashboard = dashboardService.getDashboard(from, to);
+        return ResponseEntity.ok(dashboard);
+    }
+
+    // Recalcula el rollup completo, p. ej. tras cargar datos directamente en la base de datos
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildRollups() {
+        orderStatsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.worktrack.backend.controller;
+
+import com.worktrack.backend.dto.ExportJobRequest;
+import com.worktrack.backend.dto.ExportJobResponse;
+import com.worktrack.backend.service.ExportJob;
+import com.worktrack.backend.service.ExportJobService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.ZoneId;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/exports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController {
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> submitExport(@Valid @RequestBody ExportJobRequest request) {
+        ExportJobResponse job = exportJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ExportJobResponse>> getMyExports() {
+        return ResponseEntity.ok(exportJobService.getMyJobs());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobResponse> getExport(@PathVariable String id) {
+        return ResponseEntity.ok(exportJobService.getJob(id));
+    }
+
+    // Al devolver un Resource, Spring atiende las cabeceras Range/If-Range (206 Partial Content)
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String id) {
+        ExportJob job = exportJobService.getCompletedJob(id);
+        FileSystemResource file = new FileSystemResource(job.getFile());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.getDownloadName() + "\"")
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .lastModified(job.getFinishedAt().atZone(ZoneId.systemDefault()))
+                .eTag("\"" + job.getId() + "\"")
+                .body(file);
+    }
+}
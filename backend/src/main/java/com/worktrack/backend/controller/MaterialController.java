@@ -2,6 +2,7 @@ package com.worktrack.backend.controller;
 
 import com.worktrack.backend.dto.MaterialRequest;
 import com.worktrack.backend.dto.MaterialResponse;
+import com.worktrack.backend.service.EntityTagService;
 import com.worktrack.backend.service.MaterialService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -20,18 +22,20 @@ public class MaterialController {
     @Autowired
     private MaterialService materialService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'OPERATOR')")
-    public ResponseEntity<List<MaterialResponse>> getAllMaterials() {
-        List<MaterialResponse> materials = materialService.getAllMaterials();
-        return ResponseEntity.ok(materials);
+    public ResponseEntity<List<MaterialResponse>> getAllMaterials(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.materialsVersion(), materialService::getAllMaterials);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'OPERATOR')")
-    public ResponseEntity<MaterialResponse> getMaterialById(@PathVariable Long id) {
-        MaterialResponse material = materialService.getMaterialById(id);
-        return ResponseEntity.ok(material);
+    public ResponseEntity<MaterialResponse> getMaterialById(@PathVariable Long id, ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.materialsVersion(),
+                () -> materialService.getMaterialById(id));
     }
 
     @PostMapping
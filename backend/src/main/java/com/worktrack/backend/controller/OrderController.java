@@ -1,15 +1,37 @@
 package com.worktrack.backend.controller;
 
+import com.worktrack.backend.dto.BulkStatusChangeRequest;
+import com.worktrack.backend.dto.BulkStatusChangeResponse;
+import com.worktrack.backend.dto.CursorPage;
+import com.worktrack.backend.dto.OrderChangesResponse;
+import com.worktrack.backend.dto.OrderFilter;
+import com.worktrack.backend.dto.OrderImportResponse;
 import com.worktrack.backend.dto.OrderRequest;
 import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.dto.PageResponse;
 import com.worktrack.backend.dto.StatusChangeRequest;
+import com.worktrack.backend.service.EntityTagService;
+import com.worktrack.backend.service.OrderEventBroadcaster;
+import com.worktrack.backend.service.OrderExportService;
+import com.worktrack.backend.service.OrderImportService;
+import com.worktrack.backend.service.OrderSearchService;
 import com.worktrack.backend.service.OrderService;
+import com.worktrack.backend.service.OrderSyncService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +43,24 @@ public class OrderController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private OrderSyncService orderSyncService;
+
+    @Autowired
+    private OrderEventBroadcaster orderEventBroadcaster;
+
+    @Autowired
+    private OrderImportService orderImportService;
+
+    @Autowired
+    private OrderSearchService orderSearchService;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request) {
@@ -28,16 +68,91 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Importación masiva desde CSV; devuelve el resultado y los errores por fila
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OrderImportResponse> importOrders(@RequestParam("file") MultipartFile file) {
+        OrderImportResponse response = orderImportService.importCsv(file);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<OrderResponse> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponse>> getAllOrders(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(), orderService::getAllOrders);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<OrderResponse>> getOrdersPage(
+            @RequestParam Integer limit,
+            @RequestParam(required = false) String cursor,
+            ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(),
+                () -> orderService.getOrdersPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(orderExportService.exportNdjson());
+    }
+
+    // Sincronización incremental: sin since devuelve todo (paginado) y un token para seguir.
+    // 410 si el token es demasiado antiguo y hay que volver a empezar
+    @GetMapping("/changes")
+    public ResponseEntity<OrderChangesResponse> getOrderChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        OrderChangesResponse changes = orderSyncService.getChanges(since, limit);
+        if (changes.isResyncRequired()) {
+            return ResponseEntity.status(HttpStatus.GONE).body(changes);
+        }
+        return ResponseEntity.ok(changes);
+    }
+
+    // Eventos en vivo (SSE): CREATED, UPDATED, STATUS_CHANGED, DELETED y REMOVED
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents() {
+        return orderEventBroadcaster.subscribe();
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<OrderResponse>> filterOrders(
+            @ModelAttribute OrderFilter filter,
+            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(),
+                () -> orderService.filterOrders(filter, pageable));
+    }
+
+    // Búsqueda por texto (producto, descripción, comentarios), ordenada por relevancia
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<OrderResponse>> searchOrders(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            ServletWebRequest webRequest) {
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(),
+                () -> orderSearchService.search(q, Math.max(page, 0), pageSize));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id) {
-        OrderResponse order = orderService.getOrderById(id);
-        return ResponseEntity.ok(order);
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id, ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.orderVersion(id),
+                () -> orderService.getOrderById(id));
+    }
+
+    // Historial de estados paginado por cursor; el detalle solo incluye los últimos cambios
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CursorPage<OrderResponse.StatusLogDTO>> getOrderHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.orderVersion(id),
+                () -> orderService.getOrderHistory(id, cursor, limit));
     }
 
     @PutMapping("/{id}")
@@ -63,9 +178,28 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    // Cambio de estado de varias órdenes a la vez, con resultado por orden
+    @PatchMapping("/status")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'OPERATOR')")
+    public ResponseEntity<BulkStatusChangeResponse> bulkUpdateOrderStatus(
+            @Valid @RequestBody BulkStatusChangeRequest request) {
+        BulkStatusChangeResponse response = orderService.bulkUpdateOrderStatus(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable String status) {
-        List<OrderResponse> orders = orderService.getOrdersByStatus(status);
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable String status, ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(),
+                () -> orderService.getOrdersByStatus(status));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<CursorPage<OrderResponse>> getOrdersByStatusPage(
+            @PathVariable String status,
+            @RequestParam Integer limit,
+            @RequestParam(required = false) String cursor,
+            ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.ordersVersion(),
+                () -> orderService.getOrdersByStatusPage(status, cursor, limit));
     }
 }
@@ -3,6 +3,7 @@ package com.worktrack.backend.controller;
 import com.worktrack.backend.dto.OrderResponse;
 import com.worktrack.backend.dto.UserRequest;
 import com.worktrack.backend.dto.UserResponse;
+import com.worktrack.backend.service.EntityTagService;
 import com.worktrack.backend.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -21,32 +23,32 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
     // Existing endpoints used by OrderService - preserve these
     @GetMapping("/operators")
-    public ResponseEntity<List<OrderResponse.UserBasicDTO>> getAllOperators() {
-        List<OrderResponse.UserBasicDTO> operators = userService.getAllOperators();
-        return ResponseEntity.ok(operators);
+    public ResponseEntity<List<OrderResponse.UserBasicDTO>> getAllOperators(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.usersVersion(), userService::getAllOperators);
     }
 
     @GetMapping("/basic")
-    public ResponseEntity<List<OrderResponse.UserBasicDTO>> getAllUsersBasic() {
-        List<OrderResponse.UserBasicDTO> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<OrderResponse.UserBasicDTO>> getAllUsersBasic(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.usersVersion(), userService::getAllUsers);
     }
 
     // New user management endpoints (admin-only)
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsersForManagement();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserResponse>> getAllUsers(ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.usersVersion(), userService::getAllUsersForManagement);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
-        UserResponse user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, ServletWebRequest webRequest) {
+        return ConditionalGet.respond(webRequest, entityTagService.usersVersion(),
+                () -> userService.getUserById(id));
     }
 
     @PostMapping
@@ -0,0 +1,52 @@
+package com.worktrack.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkStatusChangeRequest {
+
+    @NotEmpty(message = "Se requiere al menos una orden")
+    @Size(max = 500, message = "Máximo 500 órdenes por petición")
+    private List<Long> orderIds;
+
+    @NotNull(message = "Nuevo estado es requerido")
+    private String newStatus; // PENDING, IN_PROGRESS, COMPLETED, DELIVERED
+
+    private String comment;
+
+    public BulkStatusChangeRequest() {
+    }
+
+    public BulkStatusChangeRequest(List<Long> orderIds, String newStatus, String comment) {
+        this.orderIds = orderIds;
+        this.newStatus = newStatus;
+        this.comment = comment;
+    }
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public void setNewStatus(String newStatus) {
+        this.newStatus = newStatus;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
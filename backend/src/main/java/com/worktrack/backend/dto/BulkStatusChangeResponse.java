@@ -0,0 +1,99 @@
+package com.worktrack.backend.dto;
+
+import java.util.List;
+
+public class BulkStatusChangeResponse {
+    private int updated;
+    private int failed;
+    private List<ItemResultDTO> results;
+
+    public BulkStatusChangeResponse() {
+    }
+
+    public BulkStatusChangeResponse(List<ItemResultDTO> results) {
+        this.results = results;
+        this.updated = (int) results.stream().filter(ItemResultDTO::isSuccess).count();
+        this.failed = results.size() - updated;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResultDTO> results) {
+        this.results = results;
+    }
+
+    public static class ItemResultDTO {
+        private Long orderId;
+        private boolean success;
+        private String error;
+        private OrderResponse order;
+
+        public ItemResultDTO() {
+        }
+
+        public ItemResultDTO(Long orderId, boolean success, String error, OrderResponse order) {
+            this.orderId = orderId;
+            this.success = success;
+            this.error = error;
+            this.order = order;
+        }
+
+        public static ItemResultDTO ok(OrderResponse order) {
+            return new ItemResultDTO(order.getId(), true, null, order);
+        }
+
+        public static ItemResultDTO failed(Long orderId, String error) {
+            return new ItemResultDTO(orderId, false, error, null);
+        }
+
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+
+        public OrderResponse getOrder() {
+            return order;
+        }
+
+        public void setOrder(OrderResponse order) {
+            this.order = order;
+        }
+    }
+}
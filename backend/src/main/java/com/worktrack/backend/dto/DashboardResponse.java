@@ -0,0 +1,247 @@
+package com.worktrack.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class DashboardResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long totalOrders;
+    private double completionRate;
+    private Map<String, Long> ordersByStatus;
+    private Map<String, Long> ordersByPriority;
+    private List<NamedCountDTO> topMaterials;
+    private List<NamedCountDTO> topCustomers;
+    private List<MonthlyTrendDTO> monthlyTrend;
+    private List<OperatorStatsDTO> topOperators;
+    private long statusChanges;
+
+    public DashboardResponse() {
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public long getTotalOrders() {
+        return totalOrders;
+    }
+
+    public void setTotalOrders(long totalOrders) {
+        this.totalOrders = totalOrders;
+    }
+
+    public double getCompletionRate() {
+        return completionRate;
+    }
+
+    public void setCompletionRate(double completionRate) {
+        this.completionRate = completionRate;
+    }
+
+    public Map<String, Long> getOrdersByStatus() {
+        return ordersByStatus;
+    }
+
+    public void setOrdersByStatus(Map<String, Long> ordersByStatus) {
+        this.ordersByStatus = ordersByStatus;
+    }
+
+    public Map<String, Long> getOrdersByPriority() {
+        return ordersByPriority;
+    }
+
+    public void setOrdersByPriority(Map<String, Long> ordersByPriority) {
+        this.ordersByPriority = ordersByPriority;
+    }
+
+    public List<NamedCountDTO> getTopMaterials() {
+        return topMaterials;
+    }
+
+    public void setTopMaterials(List<NamedCountDTO> topMaterials) {
+        this.topMaterials = topMaterials;
+    }
+
+    public List<NamedCountDTO> getTopCustomers() {
+        return topCustomers;
+    }
+
+    public void setTopCustomers(List<NamedCountDTO> topCustomers) {
+        this.topCustomers = topCustomers;
+    }
+
+    public List<MonthlyTrendDTO> getMonthlyTrend() {
+        return monthlyTrend;
+    }
+
+    public void setMonthlyTrend(List<MonthlyTrendDTO> monthlyTrend) {
+        this.monthlyTrend = monthlyTrend;
+    }
+
+    public List<OperatorStatsDTO> getTopOperators() {
+        return topOperators;
+    }
+
+    public void setTopOperators(List<OperatorStatsDTO> topOperators) {
+        this.topOperators = topOperators;
+    }
+
+    public long getStatusChanges() {
+        return statusChanges;
+    }
+
+    public void setStatusChanges(long statusChanges) {
+        this.statusChanges = statusChanges;
+    }
+
+    public static class NamedCountDTO {
+        private Long id;
+        private String name;
+        private long orders;
+
+        public NamedCountDTO() {
+        }
+
+        public NamedCountDTO(Long id, String name, long orders) {
+            this.id = id;
+            this.name = name;
+            this.orders = orders;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getOrders() {
+            return orders;
+        }
+
+        public void setOrders(long orders) {
+            this.orders = orders;
+        }
+    }
+
+    public static class MonthlyTrendDTO {
+        private String month; // yyyy-MM
+        private long orders;
+        private long completed;
+
+        public MonthlyTrendDTO() {
+        }
+
+        public MonthlyTrendDTO(String month, long orders, long completed) {
+            this.month = month;
+            this.orders = orders;
+            this.completed = completed;
+        }
+
+        public String getMonth() {
+            return month;
+        }
+
+        public void setMonth(String month) {
+            this.month = month;
+        }
+
+        public long getOrders() {
+            return orders;
+        }
+
+        public void setOrders(long orders) {
+            this.orders = orders;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public void setCompleted(long completed) {
+            this.completed = completed;
+        }
+    }
+
+    public static class OperatorStatsDTO {
+        private Long id;
+        private String name;
+        private long total;
+        private long completed;
+        private double rate;
+
+        public OperatorStatsDTO() {
+        }
+
+        public OperatorStatsDTO(Long id, String name, long total, long completed, double rate) {
+            this.id = id;
+            this.name = name;
+            this.total = total;
+            this.completed = completed;
+            this.rate = rate;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public void setCompleted(long completed) {
+            this.completed = completed;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public void setRate(double rate) {
+            this.rate = rate;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.worktrack.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+public class ExportJobRequest {
+
+    @NotBlank
+    private String type; // ORDERS, STATUS_HISTORY
+
+    @NotBlank
+    private String format; // CSV, XLSX
+
+    private List<String> columns; // Vacío = todas las columnas del tipo
+
+    private OrderFilter filter;
+
+    public ExportJobRequest() {
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public OrderFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(OrderFilter filter) {
+        this.filter = filter;
+    }
+}
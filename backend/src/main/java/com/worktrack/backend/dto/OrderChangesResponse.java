@@ -0,0 +1,73 @@
+package com.worktrack.backend.dto;
+
+import java.util.List;
+
+/**
+ * Cambios desde un token de /api/orders/changes. El cliente aplica primero removed y
+ * después orders (upsert por id), y guarda nextToken para la siguiente llamada.
+ * Con resyncRequired (HTTP 410) el token es más antiguo que la retención de tombstones:
+ * el cliente debe descartar sus datos y volver a sincronizar sin token.
+ */
+public class OrderChangesResponse {
+    private List<OrderResponse> orders;
+    private List<Long> removed;
+    private String nextToken;
+    private boolean hasMore;
+    private boolean resyncRequired;
+
+    public OrderChangesResponse() {
+    }
+
+    public OrderChangesResponse(List<OrderResponse> orders, List<Long> removed, String nextToken, boolean hasMore) {
+        this.orders = orders;
+        this.removed = removed;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public static OrderChangesResponse resyncRequired() {
+        OrderChangesResponse response = new OrderChangesResponse(List.of(), List.of(), null, false);
+        response.setResyncRequired(true);
+        return response;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderResponse> orders) {
+        this.orders = orders;
+    }
+
+    public List<Long> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<Long> removed) {
+        this.removed = removed;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+}
@@ -0,0 +1,145 @@
+package com.worktrack.backend.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public class OrderFilter {
+
+    private String status; // PENDING, IN_PROGRESS, COMPLETED, DELIVERED
+
+    private String priority; // HIGH, MEDIUM, LOW
+
+    private Long assignedToId;
+
+    private Long customerId;
+
+    private Long materialId;
+
+    private String machine;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    private Double quantityMin;
+
+    private Double quantityMax;
+
+    private String q; // Texto libre sobre producto, descripción y máquina
+
+    public OrderFilter() {
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    public String getMachine() {
+        return machine;
+    }
+
+    public void setMachine(String machine) {
+        this.machine = machine;
+    }
+
+    public LocalDate getDeadlineFrom() {
+        return deadlineFrom;
+    }
+
+    public void setDeadlineFrom(LocalDate deadlineFrom) {
+        this.deadlineFrom = deadlineFrom;
+    }
+
+    public LocalDate getDeadlineTo() {
+        return deadlineTo;
+    }
+
+    public void setDeadlineTo(LocalDate deadlineTo) {
+        this.deadlineTo = deadlineTo;
+    }
+
+    public LocalDate getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDate createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDate getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDate createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public Double getQuantityMin() {
+        return quantityMin;
+    }
+
+    public void setQuantityMin(Double quantityMin) {
+        this.quantityMin = quantityMin;
+    }
+
+    public Double getQuantityMax() {
+        return quantityMax;
+    }
+
+    public void setQuantityMax(Double quantityMax) {
+        this.quantityMax = quantityMax;
+    }
+
+    public String getQ() {
+        return q;
+    }
+
+    public void setQ(String q) {
+        this.q = q;
+    }
+}
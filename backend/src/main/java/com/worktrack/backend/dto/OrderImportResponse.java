@@ -0,0 +1,84 @@
+package com.worktrack.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderImportResponse {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private List<RowErrorDTO> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    public OrderImportResponse() {
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<RowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public static class RowErrorDTO {
+        private int row; // número de línea en el fichero, cabecera = 1
+        private String message;
+
+        public RowErrorDTO() {
+        }
+
+        public RowErrorDTO(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.worktrack.backend.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 
 public class OrderRequest {
 
     @NotBlank(message = "Producto es requerido")
+    @Size(max = 255, message = "Producto no puede superar 255 caracteres")
     private String product;
 
     private String description;
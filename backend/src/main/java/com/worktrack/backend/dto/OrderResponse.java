@@ -20,6 +20,7 @@ public class OrderResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<StatusLogDTO> statusLogs;
+    private boolean hasMoreStatusLogs; // el historial completo está en /api/orders/{id}/history
 
     public OrderResponse() {
     }
@@ -162,6 +163,14 @@ public class OrderResponse {
         this.statusLogs = statusLogs;
     }
 
+    public boolean isHasMoreStatusLogs() {
+        return hasMoreStatusLogs;
+    }
+
+    public void setHasMoreStatusLogs(boolean hasMoreStatusLogs) {
+        this.hasMoreStatusLogs = hasMoreStatusLogs;
+    }
+
     public static class UserBasicDTO {
         private Long id;
         private String name;
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 public class Material {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "materials_seq")
+    @SequenceGenerator(name = "materials_seq", sequenceName = "materials_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
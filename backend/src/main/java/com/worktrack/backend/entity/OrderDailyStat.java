@@ -0,0 +1,44 @@
+package com.worktrack.backend.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Número de órdenes por (día de creación, estado, prioridad, asignado, cliente, material).
+ * Lo mantiene OrderStatsService en la misma transacción que cada escritura de órdenes.
+ */
+@Entity
+@Table(name = "order_daily_stats")
+public class OrderDailyStat {
+
+    @EmbeddedId
+    private OrderDailyStatKey id;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount = 0L;
+
+    // Constructors
+    public OrderDailyStat() {
+    }
+
+    public OrderDailyStat(OrderDailyStatKey id, Long orderCount) {
+        this.id = id;
+        this.orderCount = orderCount;
+    }
+
+    // Getters and Setters
+    public OrderDailyStatKey getId() {
+        return id;
+    }
+
+    public void setId(OrderDailyStatKey id) {
+        this.id = id;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Long orderCount) {
+        this.orderCount = orderCount;
+    }
+}
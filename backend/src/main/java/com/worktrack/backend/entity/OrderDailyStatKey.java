@@ -0,0 +1,128 @@
+package com.worktrack.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Clave del rollup diario. Las referencias opcionales usan 0 en lugar de NULL
+ * para que formen parte de la clave primaria.
+ */
+@Embeddable
+public class OrderDailyStatKey implements Serializable {
+
+    public static final long NONE = 0L;
+
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Order.Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Order.Priority priority;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    // Constructors
+    public OrderDailyStatKey() {
+    }
+
+    public OrderDailyStatKey(LocalDate day, Order.Status status, Order.Priority priority, Long assigneeId, Long customerId, Long materialId) {
+        this.day = day;
+        this.status = status;
+        this.priority = priority;
+        this.assigneeId = assigneeId;
+        this.customerId = customerId;
+        this.materialId = materialId;
+    }
+
+    public static OrderDailyStatKey of(Order order) {
+        return new OrderDailyStatKey(
+                order.getCreatedAt().toLocalDate(),
+                order.getStatus(),
+                order.getPriority(),
+                order.getAssignedTo() != null ? order.getAssignedTo().getId() : NONE,
+                order.getCustomer() != null ? order.getCustomer().getId() : NONE,
+                order.getMaterial() != null ? order.getMaterial().getId() : NONE
+        );
+    }
+
+    // Getters and Setters
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Order.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.Status status) {
+        this.status = status;
+    }
+
+    public Order.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Order.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderDailyStatKey)) return false;
+        OrderDailyStatKey that = (OrderDailyStatKey) o;
+        return Objects.equals(day, that.day)
+                && status == that.status
+                && priority == that.priority
+                && Objects.equals(assigneeId, that.assigneeId)
+                && Objects.equals(customerId, that.customerId)
+                && Objects.equals(materialId, that.materialId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, status, priority, assigneeId, customerId, materialId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.worktrack.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca de que una orden ha dejado de existir para un cliente de /api/orders/changes:
+ * se ha borrado, o se ha reasignado y ya no pertenece al operador que la tenía.
+ */
+@Entity
+// Índices: db/migration/{vendor}/V4__indexes.sql
+@Table(name = "order_tombstones")
+public class OrderTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_tombstones_seq")
+    @SequenceGenerator(name = "order_tombstones_seq", sequenceName = "order_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    // Operador que tenía la orden en el momento de la baja
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (removedAt == null) {
+            removedAt = LocalDateTime.now();
+        }
+    }
+
+    public enum Reason {
+        DELETED,
+        REASSIGNED
+    }
+
+    // Constructors
+    public OrderTombstone() {
+    }
+
+    public OrderTombstone(Long orderId, Long assignedToId, Reason reason) {
+        this.orderId = orderId;
+        this.assignedToId = assignedToId;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public void setReason(Reason reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(LocalDateTime removedAt) {
+        this.removedAt = removedAt;
+    }
+}
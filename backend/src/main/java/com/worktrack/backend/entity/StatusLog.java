@@ -6,11 +6,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+// Índices: db/migration/{vendor}/V4__indexes.sql
 @Table(name = "status_logs")
 public class StatusLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_logs_seq")
+    @SequenceGenerator(name = "status_logs_seq", sequenceName = "status_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package com.worktrack.backend.repository;
 
 import com.worktrack.backend.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +16,7 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastUpdated FROM Customer c")
+    VersionStamp versionStamp();
 }
@@ -2,6 +2,7 @@ package com.worktrack.backend.repository;
 
 import com.worktrack.backend.entity.Material;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +16,7 @@ public interface MaterialRepository extends JpaRepository<Material, Long> {
     Optional<Material> findByName(String name);
 
     boolean existsByName(String name);
+
+    @Query("SELECT COUNT(m) AS rowCount, MAX(m.updatedAt) AS lastUpdated FROM Material m")
+    VersionStamp versionStamp();
 }
@@ -0,0 +1,51 @@
+package com.worktrack.backend.repository;
+
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.OrderDailyStat;
+import com.worktrack.backend.entity.OrderDailyStatKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderDailyStatRepository extends JpaRepository<OrderDailyStat, OrderDailyStatKey> {
+
+    @Query("SELECT s.id.status, SUM(s.orderCount) FROM OrderDailyStat s " +
+            "WHERE s.id.day BETWEEN :from AND :to GROUP BY s.id.status")
+    List<Object[]> sumByStatus(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s.id.priority, SUM(s.orderCount) FROM OrderDailyStat s " +
+            "WHERE s.id.day BETWEEN :from AND :to GROUP BY s.id.priority")
+    List<Object[]> sumByPriority(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s.id.materialId, SUM(s.orderCount) FROM OrderDailyStat s " +
+            "WHERE s.id.day BETWEEN :from AND :to AND s.id.materialId <> 0 " +
+            "GROUP BY s.id.materialId HAVING SUM(s.orderCount) > 0 ORDER BY SUM(s.orderCount) DESC")
+    List<Object[]> sumByMaterial(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query("SELECT s.id.customerId, SUM(s.orderCount) FROM OrderDailyStat s " +
+            "WHERE s.id.day BETWEEN :from AND :to AND s.id.customerId <> 0 " +
+            "GROUP BY s.id.customerId HAVING SUM(s.orderCount) > 0 ORDER BY SUM(s.orderCount) DESC")
+    List<Object[]> sumByCustomer(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Query("SELECT s.id.assigneeId, SUM(s.orderCount), " +
+            "SUM(CASE WHEN s.id.status IN :done THEN s.orderCount ELSE 0 END) " +
+            "FROM OrderDailyStat s " +
+            "WHERE s.id.day BETWEEN :from AND :to AND s.id.assigneeId <> 0 " +
+            "GROUP BY s.id.assigneeId HAVING SUM(s.orderCount) > 0 ORDER BY SUM(s.orderCount) DESC")
+    List<Object[]> sumByAssignee(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                 @Param("done") Collection<Order.Status> done, Pageable pageable);
+
+    @Query("SELECT EXTRACT(YEAR FROM s.id.day), EXTRACT(MONTH FROM s.id.day), SUM(s.orderCount), " +
+            "SUM(CASE WHEN s.id.status IN :done THEN s.orderCount ELSE 0 END) " +
+            "FROM OrderDailyStat s WHERE s.id.day BETWEEN :from AND :to " +
+            "GROUP BY EXTRACT(YEAR FROM s.id.day), EXTRACT(MONTH FROM s.id.day)")
+    List<Object[]> sumByMonth(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                              @Param("done") Collection<Order.Status> done);
+}
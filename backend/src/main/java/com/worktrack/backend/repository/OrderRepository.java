@@ -2,15 +2,167 @@ package com.worktrack.backend.repository;
 
 import com.worktrack.backend.entity.Order;
 import com.worktrack.backend.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Todas las consultas que terminan en OrderResponse cargan sus asociaciones en el mismo SELECT
+    @EntityGraph(Order.GRAPH_DETAILS)
     List<Order> findByStatus(Order.Status status);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findByStatusAndAssignedToId(Order.Status status, Long userId);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
     List<Order> findByAssignedTo(User user);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
     List<Order> findByAssignedToId(Long userId);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
     List<Order> findAllByOrderByCreatedAtDesc();
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findWithDetailsById(@Param("id") Long id);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findByIdIn(Collection<Long> ids);
+
+    // Bloquea las órdenes antes de leer su estado anterior: dos cambios concurrentes de la
+    // misma orden no descuentan dos veces el mismo estado del rollup (OrderStatsService).
+    // Por id, para que dos cambios masivos que se solapan no se bloqueen mutuamente
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Cambio de estado masivo en una sola sentencia; vacía el contexto de persistencia
+    // para que no queden entidades con el estado anterior
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Order.Status status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Consulta componible (ver OrderSpecifications)
+    @Override
+    @EntityGraph(Order.GRAPH_DETAILS)
+    Page<Order> findAll(Specification<Order> spec, Pageable pageable);
+
+    // Paginación keyset: primera página, ordenada por (createdAt, id) descendente
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findByAssignedToIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findByStatusOrderByCreatedAtDescIdDesc(Order.Status status, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    List<Order> findByStatusAndAssignedToIdOrderByCreatedAtDescIdDesc(Order.Status status, Long userId, Pageable pageable);
+
+    // Paginación keyset: páginas siguientes, a partir de la última posición (createdAt, id) vista
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.assignedTo.id = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageByAssignedToAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.status = :status " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageByStatusAfter(@Param("status") Order.Status status, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.status = :status AND o.assignedTo.id = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageByStatusAndAssignedToAfter(@Param("status") Order.Status status, @Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                   Pageable pageable);
+
+    // Sincronización incremental: órdenes creadas o modificadas después de la posición (updatedAt, id)
+    // y antes del horizonte (until)
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE (o.updatedAt > :updatedAt OR (o.updatedAt = :updatedAt AND o.id > :id)) " +
+            "AND o.updatedAt < :until " +
+            "ORDER BY o.updatedAt ASC, o.id ASC")
+    List<Order> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                 @Param("until") LocalDateTime until, Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.assignedTo.id = :userId " +
+            "AND (o.updatedAt > :updatedAt OR (o.updatedAt = :updatedAt AND o.id > :id)) " +
+            "AND o.updatedAt < :until " +
+            "ORDER BY o.updatedAt ASC, o.id ASC")
+    List<Order> findChangedByAssignedToAfter(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt,
+                                             @Param("id") Long id, @Param("until") LocalDateTime until,
+                                             Pageable pageable);
+
+    // Huellas para ETag (ver EntityTagService)
+    @Query("SELECT COUNT(o) AS rowCount, MAX(o.updatedAt) AS lastUpdated FROM Order o")
+    VersionStamp versionStamp();
+
+    @Query("SELECT COUNT(o) AS rowCount, MAX(o.updatedAt) AS lastUpdated FROM Order o WHERE o.assignedTo.id = :userId")
+    VersionStamp versionStampByAssignedTo(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(o) AS rowCount, MAX(o.updatedAt) AS lastUpdated FROM Order o WHERE o.id = :id")
+    VersionStamp versionStampById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(o) AS rowCount, MAX(o.updatedAt) AS lastUpdated FROM Order o " +
+            "WHERE o.id = :id AND o.assignedTo.id = :userId")
+    VersionStamp versionStampByIdAndAssignedTo(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Exportación: cursor de solo avance, leído por lotes de EXPORT_FETCH_SIZE filas
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o ORDER BY o.id")
+    Stream<Order> streamAllForExport();
+
+    @EntityGraph(Order.GRAPH_DETAILS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o WHERE o.assignedTo.id = :userId ORDER BY o.id")
+    Stream<Order> streamByAssignedToForExport(@Param("userId") Long userId);
 }
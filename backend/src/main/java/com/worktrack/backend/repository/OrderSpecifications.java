@@ -0,0 +1,173 @@
+package com.worktrack.backend.repository;
+
+import com.worktrack.backend.dto.OrderFilter;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.StatusLog;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Criterios componibles para consultar órdenes. Cada criterio devuelve null cuando
+ * no aplica, de modo que Specification.where/and lo ignora.
+ */
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> fromFilter(OrderFilter filter) {
+        return Specification.where(hasStatus(filter.getStatus()))
+                .and(hasPriority(filter.getPriority()))
+                .and(assignedTo(filter.getAssignedToId()))
+                .and(forCustomer(filter.getCustomerId()))
+                .and(usingMaterial(filter.getMaterialId()))
+                .and(onMachine(filter.getMachine()))
+                .and(deadlineBetween(filter.getDeadlineFrom(), filter.getDeadlineTo()))
+                .and(createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(quantityBetween(filter.getQuantityMin(), filter.getQuantityMax()))
+                .and(matchesText(filter.getQ()));
+    }
+
+    public static Specification<Order> hasStatus(String status) {
+        if (isBlank(status)) {
+            return null;
+        }
+        Order.Status value = Order.Status.valueOf(status);
+        return (root, query, cb) -> cb.equal(root.get("status"), value);
+    }
+
+    public static Specification<Order> hasPriority(String priority) {
+        if (isBlank(priority)) {
+            return null;
+        }
+        Order.Priority value = Order.Priority.valueOf(priority);
+        return (root, query, cb) -> cb.equal(root.get("priority"), value);
+    }
+
+    // Recorrido por lotes en orden de id (exportaciones)
+    public static Specification<Order> idGreaterThan(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<Order> assignedTo(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+
+    public static Specification<Order> forCustomer(Long customerId) {
+        if (customerId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("customer").get("id"), customerId);
+    }
+
+    public static Specification<Order> usingMaterial(Long materialId) {
+        if (materialId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("material").get("id"), materialId);
+    }
+
+    public static Specification<Order> onMachine(String machine) {
+        if (isBlank(machine)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("machine"), machine.trim());
+    }
+
+    public static Specification<Order> deadlineBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("deadline"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("deadline"), from);
+            }
+            return cb.between(root.get("deadline"), from, to);
+        };
+    }
+
+    public static Specification<Order> createdBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        // Rango semiabierto [from, to + 1 día) para poder usar el índice sobre created_at
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay());
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay());
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay()),
+                    cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay())
+            );
+        };
+    }
+
+    public static Specification<Order> quantityBetween(Double min, Double max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (min == null) {
+                return cb.lessThanOrEqualTo(root.get("quantity"), max);
+            }
+            if (max == null) {
+                return cb.greaterThanOrEqualTo(root.get("quantity"), min);
+            }
+            return cb.between(root.get("quantity"), min, max);
+        };
+    }
+
+    // En PostgreSQL usa los índices de trigramas sobre lower(col) (V6) si el texto tiene 3 o más
+    // caracteres; en H2 es un recorrido completo
+    public static Specification<Order> matchesText(String text) {
+        if (isBlank(text)) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("product")), pattern, '\\'),
+                cb.like(cb.lower(root.get("description")), pattern, '\\'),
+                cb.like(cb.lower(root.get("machine")), pattern, '\\')
+        );
+    }
+
+    // Búsqueda sin índice de texto (H2): producto, descripción, máquina o comentario de algún cambio de estado
+    public static Specification<Order> matchesTextOrComment(String text) {
+        if (isBlank(text)) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase()) + "%";
+        Specification<Order> orderText = matchesText(text);
+        return (root, query, cb) -> {
+            Subquery<Long> comments = query.subquery(Long.class);
+            Root<StatusLog> log = comments.from(StatusLog.class);
+            comments.select(log.get("id")).where(
+                    cb.equal(log.get("order"), root),
+                    cb.like(cb.lower(log.get("comment")), pattern, '\\'));
+            return cb.or(orderText.toPredicate(root, query, cb), cb.exists(comments));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package com.worktrack.backend.repository;
+
+import com.worktrack.backend.entity.OrderTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderTombstoneRepository extends JpaRepository<OrderTombstone, Long> {
+
+    @Query("SELECT DISTINCT t.orderId FROM OrderTombstone t WHERE t.removedAt > :since AND t.reason = :reason")
+    List<Long> findOrderIdsByReasonSince(@Param("reason") OrderTombstone.Reason reason, @Param("since") LocalDateTime since);
+
+    // Excluye las órdenes que se le han vuelto a asignar después de quitárselas
+    @Query("SELECT DISTINCT t.orderId FROM OrderTombstone t WHERE t.removedAt > :since AND t.assignedToId = :userId " +
+            "AND NOT EXISTS (SELECT o.id FROM Order o WHERE o.id = t.orderId AND o.assignedTo.id = :userId)")
+    List<Long> findRemovedOrderIdsForAssigneeSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM OrderTombstone t WHERE t.removedAt < :before")
+    int deleteRemovedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,12 +1,35 @@
 package com.worktrack.backend.repository;
 
 import com.worktrack.backend.entity.StatusLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StatusLogRepository extends JpaRepository<StatusLog, Long> {
-    List<StatusLog> findByOrderIdOrderByCreatedAtDesc(Long orderId);
+    // Historial paginado (keyset): primera página, los cambios más recientes primero
+    @EntityGraph(attributePaths = "changedBy")
+    List<StatusLog> findByOrderIdOrderByCreatedAtDescIdDesc(Long orderId, Pageable pageable);
+
+    // Páginas siguientes, a partir de la última posición (createdAt, id) vista
+    @EntityGraph(attributePaths = "changedBy")
+    @Query("SELECT l FROM StatusLog l " +
+            "WHERE l.order.id = :orderId " +
+            "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<StatusLog> findPageByOrderIdAfter(@Param("orderId") Long orderId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "changedBy")
+    List<StatusLog> findByOrderIdInOrderByOrderIdAscCreatedAtAsc(Collection<Long> orderIds);
+
+    @Query("SELECT COUNT(l) FROM StatusLog l WHERE l.createdAt BETWEEN :from AND :to")
+    long countBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -2,6 +2,7 @@ package com.worktrack.backend.repository;
 
 import com.worktrack.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +13,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     List<User> findByRole(User.Role role);
     List<User> findByActiveTrue();
+
+    @Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastUpdated FROM User u")
+    VersionStamp versionStamp();
 }
@@ -0,0 +1,14 @@
+package com.worktrack.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Huella barata de una tabla (número de filas y última modificación), usada para
+ * calcular ETags sin cargar ni serializar las filas.
+ */
+public interface VersionStamp {
+
+    long getRowCount();
+
+    LocalDateTime getLastUpdated();
+}
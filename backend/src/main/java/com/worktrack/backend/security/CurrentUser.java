@@ -0,0 +1,34 @@
+package com.worktrack.backend.security;
+
+import com.worktrack.backend.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acceso al usuario de la petición en curso. El principal se construye en
+ * AuthTokenFilter a partir del JWT, así que consultarlo no toca la base de datos.
+ */
+@Component
+public class CurrentUser {
+
+    public UserDetailsImpl get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl principal)) {
+            throw new RuntimeException("Usuario no autenticado");
+        }
+        return principal;
+    }
+
+    public Long getId() {
+        return get().getId();
+    }
+
+    public User.Role getRole() {
+        return get().getRole();
+    }
+
+    public boolean isOperator() {
+        return getRole() == User.Role.OPERATOR;
+    }
+}
@@ -1,16 +1,28 @@
 package com.worktrack.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.worktrack.backend.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
@@ -20,11 +32,50 @@ public class JwtUtils {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    // Claims con los datos del principal, para no consultar la tabla users en cada petición
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ACTIVE = "active";
+
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // Tokens ya verificados (huella SHA-256 -> claims); cada entrada caduca con su token
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokens;
+
+    // worktrack.jwt.validation por resultado: desde caché, firma verificada o rechazado
+    private Timer cachedValidations;
+    private Timer verifiedValidations;
+    private Timer rejectedValidations;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        // El parser es inmutable y seguro entre hilos: se construye una sola vez
+        jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        cachedValidations = validationTimer("cached");
+        verifiedValidations = validationTimer("verified");
+        rejectedValidations = validationTimer("rejected");
+    }
+
+    private Timer validationTimer(String result) {
+        return Timer.builder("worktrack.jwt.validation")
+                .description("Validación del token JWT de cada petición")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public String generateJwtToken(Authentication authentication) {
@@ -32,25 +83,51 @@ public class JwtUtils {
 
         return Jwts.builder()
                 .subject(userPrincipal.getUsername())
+                .claim(CLAIM_USER_ID, userPrincipal.getId())
+                .claim(CLAIM_NAME, userPrincipal.getName())
+                .claim(CLAIM_ROLE, userPrincipal.getRole().name())
+                .claim(CLAIM_ACTIVE, userPrincipal.getActive())
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
-    public boolean validateJwtToken(String authToken) {
+    /**
+     * Verifica el token y devuelve sus claims, o null si no es válido. Los tokens repetidos
+     * se resuelven desde la caché sin volver a comprobar la firma ni decodificar el JSON.
+     */
+    public Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            cachedValidations.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        Claims claims = verify(token, digest);
+        (claims != null ? verifiedValidations : rejectedValidations)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    private Claims verify(String token, String digest) {
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(authToken);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            return claims;
         } catch (MalformedJwtException e) {
             logger.error("Token JWT inválido: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -59,7 +136,62 @@ public class JwtUtils {
             logger.error("Token JWT no soportado: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string está vacío: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("Firma JWT inválida: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Construye el principal a partir de las claims del token. Devuelve null si el token
+     * se emitió antes de incluir las claims del usuario.
+     */
+    public UserDetailsImpl getPrincipalFromClaims(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+
+        return new UserDetailsImpl(
+                userId.longValue(),
+                claims.getSubject(),
+                claims.get(CLAIM_NAME, String.class),
+                null,
+                User.Role.valueOf(role),
+                !Boolean.FALSE.equals(claims.get(CLAIM_ACTIVE, Boolean.class))
+        );
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    // La caché guarda huellas y no los tokens en claro
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
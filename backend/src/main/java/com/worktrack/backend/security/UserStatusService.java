@@ -0,0 +1,47 @@
+package com.worktrack.backend.security;
+
+import com.worktrack.backend.config.CacheConfig;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Estado actual (activo y rol) de los usuarios autenticados por JWT. Se cachea con un
+ * TTL corto: un usuario desactivado o con otro rol queda fuera como mucho tras ese TTL
+ * aunque su token siga siendo válido. UserService invalida la caché al modificar usuarios.
+ */
+@Service
+public class UserStatusService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheConfig.USER_STATUS, unless = "#result == null")
+    public Optional<UserStatus> getStatus(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> new UserStatus(Boolean.TRUE.equals(user.getActive()), user.getRole()));
+    }
+
+    public static final class UserStatus implements Serializable {
+        private final boolean active;
+        private final User.Role role;
+
+        public UserStatus(boolean active, User.Role role) {
+            this.active = active;
+            this.role = role;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public User.Role getRole() {
+            return role;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.worktrack.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV mínimo (RFC 4180) que devuelve una fila cada vez: campos entre comillas,
+ * comillas dobles escapadas y saltos de línea dentro de un campo. El separador (',' o ';',
+ * según exporte la hoja de cálculo) se detecta en la cabecera.
+ */
+final class CsvReader implements Closeable {
+
+    private final Reader in;
+    private char separator = ',';
+    private boolean firstRow = true;
+    private int pending = -2; // -2: nada leído por adelantado
+
+    CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Devuelve la siguiente fila, o null al final del fichero.
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        if (firstRow && c == '\uFEFF') {
+            c = read();
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean detectSeparator = firstRow;
+        firstRow = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (detectSeparator && (c == ',' || c == ';')) {
+                separator = (char) c;
+                detectSeparator = false;
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        pending = nextChar;
+                    }
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
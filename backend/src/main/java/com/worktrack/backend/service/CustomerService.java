@@ -1,10 +1,13 @@
 package com.worktrack.backend.service;
 
+import com.worktrack.backend.config.CacheConfig;
 import com.worktrack.backend.dto.CustomerRequest;
 import com.worktrack.backend.dto.CustomerResponse;
 import com.worktrack.backend.entity.Customer;
 import com.worktrack.backend.repository.CustomerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class CustomerService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS, key = "'all'")
     @Transactional(readOnly = true)
     public List<CustomerResponse> getAllCustomers() {
         return customerRepository.findAllByOrderByNameAsc()
@@ -25,6 +29,7 @@ public class CustomerService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheConfig.CUSTOMER_BY_ID)
     @Transactional(readOnly = true)
     public CustomerResponse getCustomerById(Long id) {
         Customer customer = customerRepository.findById(id)
@@ -32,6 +37,7 @@ public class CustomerService {
         return new CustomerResponse(customer);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CUSTOMERS, CacheConfig.CUSTOMER_BY_ID, CacheConfig.CUSTOMER_REFS}, allEntries = true)
     @Transactional
     public CustomerResponse createCustomer(CustomerRequest request) {
         // Check if email already exists
@@ -51,6 +57,7 @@ public class CustomerService {
         return new CustomerResponse(saved);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CUSTOMERS, CacheConfig.CUSTOMER_BY_ID, CacheConfig.CUSTOMER_REFS}, allEntries = true)
     @Transactional
     public CustomerResponse updateCustomer(Long id, CustomerRequest request) {
         Customer customer = customerRepository.findById(id)
@@ -73,6 +80,7 @@ public class CustomerService {
         return new CustomerResponse(updated);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.CUSTOMERS, CacheConfig.CUSTOMER_BY_ID, CacheConfig.CUSTOMER_REFS}, allEntries = true)
     @Transactional
     public void deleteCustomer(Long id) {
         if (!customerRepository.existsById(id)) {
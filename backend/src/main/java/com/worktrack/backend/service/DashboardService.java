@@ -0,0 +1,183 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.DashboardResponse;
+import com.worktrack.backend.entity.Customer;
+import com.worktrack.backend.entity.Material;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.CustomerRepository;
+import com.worktrack.backend.repository.MaterialRepository;
+import com.worktrack.backend.repository.OrderDailyStatRepository;
+import com.worktrack.backend.repository.StatusLogRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Calcula las cifras del dashboard a partir del rollup order_daily_stats (ver
+ * OrderStatsService), de modo que el coste depende del número de días y no de órdenes.
+ * Las cifras de órdenes se agregan por día de creación completo.
+ */
+@Service
+public class DashboardService {
+
+    private static final int TOP_LIMIT = 5;
+    private static final int TREND_MONTHS = 6;
+    private static final Set<Order.Status> DONE_STATUSES = EnumSet.of(Order.Status.COMPLETED, Order.Status.DELIVERED);
+
+    // Límites usados cuando el rango no está acotado ("all")
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private OrderDailyStatRepository orderDailyStatRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private StatusLogRepository statusLogRepository;
+
+    @Transactional(readOnly = true)
+    public DashboardResponse getDashboard(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime rangeFrom = from != null ? from : MIN_DATE;
+        LocalDateTime rangeTo = to != null ? to : MAX_DATE;
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new RuntimeException("Rango de fechas inválido");
+        }
+
+        DashboardResponse response = new DashboardResponse();
+        response.setFrom(from);
+        response.setTo(to);
+
+        LocalDate dayFrom = rangeFrom.toLocalDate();
+        LocalDate dayTo = rangeTo.toLocalDate();
+
+        Map<String, Long> byStatus = zeroCounts(Order.Status.values());
+        for (Object[] row : orderDailyStatRepository.sumByStatus(dayFrom, dayTo)) {
+            byStatus.put(((Order.Status) row[0]).name(), toLong(row[1]));
+        }
+        response.setOrdersByStatus(byStatus);
+
+        Map<String, Long> byPriority = zeroCounts(Order.Priority.values());
+        for (Object[] row : orderDailyStatRepository.sumByPriority(dayFrom, dayTo)) {
+            byPriority.put(((Order.Priority) row[0]).name(), toLong(row[1]));
+        }
+        response.setOrdersByPriority(byPriority);
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long done = byStatus.get(Order.Status.COMPLETED.name()) + byStatus.get(Order.Status.DELIVERED.name());
+        response.setTotalOrders(total);
+        response.setCompletionRate(total > 0 ? (done * 100.0) / total : 0);
+
+        PageRequest top = PageRequest.of(0, TOP_LIMIT);
+        List<Object[]> materialRows = orderDailyStatRepository.sumByMaterial(dayFrom, dayTo, top);
+        Map<Long, String> materialNames = materialRepository.findAllById(ids(materialRows)).stream()
+                .collect(Collectors.toMap(Material::getId, Material::getName));
+        response.setTopMaterials(toNamedCounts(materialRows, materialNames));
+
+        List<Object[]> customerRows = orderDailyStatRepository.sumByCustomer(dayFrom, dayTo, top);
+        Map<Long, String> customerNames = customerRepository.findAllById(ids(customerRows)).stream()
+                .collect(Collectors.toMap(Customer::getId, Customer::getName));
+        response.setTopCustomers(toNamedCounts(customerRows, customerNames));
+
+        List<Object[]> assigneeRows = orderDailyStatRepository.sumByAssignee(dayFrom, dayTo, DONE_STATUSES, top);
+        Map<Long, String> userNames = userRepository.findAllById(ids(assigneeRows)).stream()
+                .collect(Collectors.toMap(User::getId, User::getName));
+        response.setTopOperators(assigneeRows.stream()
+                .map(row -> {
+                    long assigned = toLong(row[1]);
+                    long completed = toLong(row[2]);
+                    return new DashboardResponse.OperatorStatsDTO(
+                            toLong(row[0]),
+                            userNames.get(toLong(row[0])),
+                            assigned,
+                            completed,
+                            assigned > 0 ? (completed * 100.0) / assigned : 0
+                    );
+                })
+                .collect(Collectors.toList()));
+
+        response.setMonthlyTrend(monthlyTrend(dayFrom, dayTo));
+        response.setStatusChanges(statusLogRepository.countBetween(rangeFrom, rangeTo));
+
+        return response;
+    }
+
+    /**
+     * Últimos seis meses naturales (incluido el actual), recortados al rango pedido.
+     */
+    private List<DashboardResponse.MonthlyTrendDTO> monthlyTrend(LocalDate rangeFrom, LocalDate rangeTo) {
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(TREND_MONTHS - 1);
+
+        LocalDate trendFrom = max(rangeFrom, first.atDay(1));
+        LocalDate trendTo = min(rangeTo, current.atEndOfMonth());
+
+        Map<YearMonth, long[]> counts = new HashMap<>();
+        if (!trendFrom.isAfter(trendTo)) {
+            for (Object[] row : orderDailyStatRepository.sumByMonth(trendFrom, trendTo, DONE_STATUSES)) {
+                YearMonth month = YearMonth.of((int) toLong(row[0]), (int) toLong(row[1]));
+                counts.put(month, new long[]{toLong(row[2]), toLong(row[3])});
+            }
+        }
+
+        List<DashboardResponse.MonthlyTrendDTO> trend = new ArrayList<>();
+        for (int i = 0; i < TREND_MONTHS; i++) {
+            YearMonth month = first.plusMonths(i);
+            long[] values = counts.getOrDefault(month, new long[]{0, 0});
+            trend.add(new DashboardResponse.MonthlyTrendDTO(month.toString(), values[0], values[1]));
+        }
+        return trend;
+    }
+
+    private List<DashboardResponse.NamedCountDTO> toNamedCounts(List<Object[]> rows, Map<Long, String> names) {
+        return rows.stream()
+                .map(row -> new DashboardResponse.NamedCountDTO(toLong(row[0]), names.get(toLong(row[0])), toLong(row[1])))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<Object[]> rows) {
+        return rows.stream().map(row -> toLong(row[0])).collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> zeroCounts(Enum<?>[] values) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> value : values) {
+            counts.put(value.name(), 0L);
+        }
+        return counts;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,505 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de datos sintéticos para pruebas de carga y capacidad (perfil datagen):
+ *
+ *   java -jar backend.jar --spring.profiles.active=prod,datagen --datagen.orders=4000000
+ *
+ * Inserta usuarios, clientes, materiales, órdenes y su historial de estados con lotes JDBC
+ * (en PostgreSQL reWriteBatchedInserts los convierte en INSERT multi-fila), varios hilos y
+ * una transacción por bloque de órdenes. Las distribuciones imitan a producción: clientes,
+ * materiales y productos con sesgo Zipf, carga desigual entre operarios, volumen creciente
+ * con los meses y menos órdenes en fin de semana, y estado según la antigüedad. Con la
+ * misma semilla los datos son los mismos. Al terminar ajusta las secuencias, reconstruye el
+ * rollup y cierra la aplicación.
+ */
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, email, password, name, role, active, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] USER_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_CUSTOMER =
+            "INSERT INTO customers (id, name, company, email, phone, address, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] CUSTOMER_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_MATERIAL =
+            "INSERT INTO materials (id, name, description, unit, stock_quantity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] MATERIAL_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, product, description, priority, status, assigned_to_id, created_by_id, " +
+            "customer_id, material_id, quantity, deadline, machine, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] ORDER_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
+            Types.BIGINT, Types.BIGINT, Types.DOUBLE, Types.DATE, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_STATUS_LOG =
+            "INSERT INTO status_logs (id, order_id, previous_status, new_status, comment, changed_by_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] STATUS_LOG_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP};
+
+    // Tablas con id de secuencia (ver @SequenceGenerator en las entidades)
+    private static final List<String> SEQUENCE_TABLES = List.of("users", "customers", "materials", "orders", "status_logs");
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String[] PRODUCTS = {
+            "Engine Block", "Transmission Gear", "Brake Disc", "Exhaust Manifold", "Cylinder Head",
+            "Crankshaft", "Camshaft", "Piston Set", "Valve Assembly", "Intake Manifold",
+            "Oil Pan", "Turbo Housing", "Differential Case", "Axle Shaft", "Control Arm",
+            "Suspension Spring", "Steering Knuckle", "Wheel Hub", "Battery Tray", "Radiator Support"
+    };
+    private static final String[] MACHINES = {
+            "CNC-001", "CNC-002", "CNC-003", "MILL-001", "MILL-002", "LATHE-001", "LATHE-002", "PRESS-001"
+    };
+    private static final String[] MATERIAL_KINDS = {
+            "Steel Plate", "Aluminum Alloy", "Carbon Fiber Sheet", "Copper Wire", "Plastic Polymer", "Titanium Rod"
+    };
+    private static final String[] UNITS = {"kg", "m", "m²", "pcs"};
+    private static final String[] COMMENTS = {
+            null, null, null, "Material recibido", "Máquina asignada", "Inspección de calidad OK",
+            "Retraso por falta de material", "Cliente confirma entrega", "Reprocesado por defecto"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${datagen.operators:200}")
+    private int operatorCount;
+
+    @Value("${datagen.managers:20}")
+    private int managerCount;
+
+    @Value("${datagen.customers:5000}")
+    private int customerCount;
+
+    @Value("${datagen.materials:500}")
+    private int materialCount;
+
+    @Value("${datagen.orders:1000000}")
+    private int orderCount;
+
+    @Value("${datagen.months:24}")
+    private int months;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${datagen.threads:4}")
+    private int threads;
+
+    @Value("${datagen.password:password123}")
+    private String password;
+
+    @Value("${datagen.exit:true}")
+    private boolean exitWhenDone;
+
+    @Value("${spring.jpa.database-platform:}")
+    private String databasePlatform;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime from = now.minusMonths(months);
+        logger.info("Generando datos: {} operarios, {} managers, {} clientes, {} materiales, {} órdenes ({} meses, semilla {})",
+                operatorCount, managerCount, customerCount, materialCount, orderCount, months, seed);
+
+        long adminId = firstAdminId();
+        long[] operatorIds = insertUsers(User.Role.OPERATOR, operatorCount, from);
+        long[] managerIds = insertUsers(User.Role.MANAGER, managerCount, from);
+        long[] customerIds = insertCustomers(from);
+        long[] materialIds = insertMaterials(from);
+
+        Dataset dataset = new Dataset(adminId, operatorIds, managerIds, customerIds, materialIds, from, now);
+        long[] counts = insertOrders(dataset);
+
+        resetSequences();
+        orderStatsService.rebuild();
+        analyze();
+
+        long seconds = (System.nanoTime() - started) / 1_000_000_000L;
+        logger.info("Datos generados en {} s: {} órdenes, {} cambios de estado", seconds, counts[0], counts[1]);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    // Las órdenes las crea un ADMIN; si no hay ninguno (base vacía) se crea uno
+    private long firstAdminId() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE role = ? ORDER BY id", Long.class, User.Role.ADMIN.name());
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        return insertUsers(User.Role.ADMIN, 1, LocalDateTime.now())[0];
+    }
+
+    private long[] insertUsers(User.Role role, int count, LocalDateTime createdAt) {
+        long firstId = nextId("users");
+        String hash = passwordEncoder.encode(password); // BCrypt una sola vez: es deliberadamente lento
+        String prefix = role.name().toLowerCase();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            rows.add(new Object[]{id, prefix + id + "@datagen.worktrack.com", hash,
+                    capitalize(prefix) + " " + id, role.name(), true, timestamp, timestamp});
+        }
+        insert(INSERT_USER, rows, USER_TYPES);
+        return ids(firstId, count);
+    }
+
+    private long[] insertCustomers(LocalDateTime createdAt) {
+        long firstId = nextId("customers");
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = new ArrayList<>(customerCount);
+        for (int i = 0; i < customerCount; i++) {
+            long id = firstId + i;
+            rows.add(new Object[]{id, "Customer " + id, "Company " + id, "orders" + id + "@customer.example.com",
+                    "+81-3-" + String.format("%04d-%04d", id % 10000, (id * 7) % 10000),
+                    id + " Industrial Park, Aichi, Japan", timestamp, timestamp});
+        }
+        insert(INSERT_CUSTOMER, rows, CUSTOMER_TYPES);
+        return ids(firstId, customerCount);
+    }
+
+    private long[] insertMaterials(LocalDateTime createdAt) {
+        long firstId = nextId("materials");
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Object[]> rows = new ArrayList<>(materialCount);
+        for (int i = 0; i < materialCount; i++) {
+            long id = firstId + i;
+            String kind = MATERIAL_KINDS[i % MATERIAL_KINDS.length];
+            rows.add(new Object[]{id, kind + " #" + id, kind + " grade " + (1 + i / MATERIAL_KINDS.length),
+                    UNITS[random.nextInt(UNITS.length)], (double) random.nextInt(10_000), timestamp, timestamp});
+        }
+        insert(INSERT_MATERIAL, rows, MATERIAL_TYPES);
+        return ids(firstId, materialCount);
+    }
+
+    /**
+     * Órdenes e historial en bloques de chunkSize órdenes, repartidos entre los hilos. Los ids
+     * de cada bloque se derivan de su posición (y el historial de su orden), así que los
+     * bloques son independientes y reproducibles.
+     */
+    private long[] insertOrders(Dataset dataset) throws Exception {
+        long firstOrderId = nextId("orders");
+        long firstLogId = nextId("status_logs");
+        AtomicLong insertedOrders = new AtomicLong();
+        AtomicLong insertedLogs = new AtomicLong();
+        int chunks = (orderCount + chunkSize - 1) / chunkSize;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int first = chunk * chunkSize;
+                int count = Math.min(chunkSize, orderCount - first);
+                // Como mucho MAX_LOGS_PER_ORDER cambios por orden: rangos de ids de historial disjuntos
+                long logIdBase = firstLogId + (long) first * OrderHistory.MAX_LOGS_PER_ORDER;
+                SplittableRandom random = new SplittableRandom(seed * 31 + chunk);
+                futures.add(executor.submit(() -> {
+                    int logs = insertChunk(dataset, random, firstOrderId + first, count, logIdBase);
+                    long total = insertedOrders.addAndGet(count);
+                    insertedLogs.addAndGet(logs);
+                    if (total / chunkSize % 20 == 0 || total == orderCount) {
+                        logger.info("Órdenes: {}/{}, cambios de estado: {}", total, orderCount, insertedLogs.get());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new long[]{insertedOrders.get(), insertedLogs.get()};
+    }
+
+    private int insertChunk(Dataset dataset, SplittableRandom random, long firstOrderId, int count, long logIdBase) {
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> logs = new ArrayList<>(count * 3);
+        for (int i = 0; i < count; i++) {
+            long orderId = firstOrderId + i;
+            OrderHistory history = new OrderHistory(dataset, random);
+            orders.add(history.orderRow(orderId));
+            history.addLogRows(logs, orderId, logIdBase + (long) i * OrderHistory.MAX_LOGS_PER_ORDER);
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            insert(INSERT_ORDER, orders, ORDER_TYPES);
+            insert(INSERT_STATUS_LOG, logs, STATUS_LOG_TYPES);
+        });
+        return logs.size();
+    }
+
+    private void insert(String sql, List<Object[]> rows, int[] types) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())), types);
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return (max != null ? max : 0) + 1;
+    }
+
+    // Igual que V2__identity_to_sequences.sql: el siguiente bloque de Hibernate empieza tras MAX(id)
+    private void resetSequences() {
+        for (String table : SEQUENCE_TABLES) {
+            long next = nextId(table) - 1 + 2L * SEQUENCE_INCREMENT;
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+        }
+    }
+
+    // Estadísticas del planificador al día antes de medir nada
+    private void analyze() {
+        if (databasePlatform.contains("PostgreSQL")) {
+            jdbcTemplate.execute("ANALYZE");
+        }
+    }
+
+    private static long[] ids(long firstId, int count) {
+        long[] ids = new long[count];
+        Arrays.setAll(ids, i -> firstId + i);
+        return ids;
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Entidades de referencia y distribuciones compartidas por todos los hilos (solo lectura).
+     */
+    private static final class Dataset {
+        final long adminId;
+        final long[] operatorIds;
+        final long[] managerIds;
+        final long[] customerIds;
+        final long[] materialIds;
+        final LocalDateTime from;
+        final LocalDateTime now;
+        final long spanSeconds;
+
+        // Pocos clientes, materiales y productos concentran la mayoría de las órdenes
+        final ZipfSampler customers;
+        final ZipfSampler materials;
+        final ZipfSampler products;
+        // Carga de trabajo desigual, pero menos extrema entre operarios
+        final ZipfSampler operators;
+
+        Dataset(long adminId, long[] operatorIds, long[] managerIds, long[] customerIds, long[] materialIds,
+                LocalDateTime from, LocalDateTime now) {
+            this.adminId = adminId;
+            this.operatorIds = operatorIds;
+            this.managerIds = managerIds;
+            this.customerIds = customerIds;
+            this.materialIds = materialIds;
+            this.from = from;
+            this.now = now;
+            this.spanSeconds = ChronoUnit.SECONDS.between(from, now);
+            this.customers = new ZipfSampler(customerIds.length, 1.1);
+            this.materials = new ZipfSampler(materialIds.length, 1.0);
+            this.products = new ZipfSampler(PRODUCTS.length, 0.8);
+            this.operators = new ZipfSampler(operatorIds.length, 0.5);
+        }
+    }
+
+    /**
+     * Una orden y la secuencia de cambios de estado que la llevó a su estado actual
+     * (PENDING -> IN_PROGRESS -> COMPLETED -> DELIVERED, con algún reproceso).
+     */
+    private static final class OrderHistory {
+        static final int MAX_LOGS_PER_ORDER = 5;
+
+        private final Dataset dataset;
+        private final SplittableRandom random;
+        private final LocalDateTime createdAt;
+        private final Order.Status status;
+        private final Order.Priority priority;
+        private final long assigneeId;
+        private final boolean rework;
+        private final List<LocalDateTime> changeTimes = new ArrayList<>(MAX_LOGS_PER_ORDER);
+
+        OrderHistory(Dataset dataset, SplittableRandom random) {
+            this.dataset = dataset;
+            this.random = random;
+            this.createdAt = createdAt();
+            this.status = statusForAge(ChronoUnit.DAYS.between(createdAt, dataset.now));
+            double p = random.nextDouble();
+            this.priority = p < 0.3 ? Order.Priority.HIGH : p < 0.8 ? Order.Priority.MEDIUM : Order.Priority.LOW;
+            this.assigneeId = dataset.operatorIds.length > 0 ? dataset.operatorIds[dataset.operators.sample(random)] : dataset.adminId;
+            this.rework = status.ordinal() >= Order.Status.COMPLETED.ordinal() && random.nextDouble() < 0.05;
+
+            LocalDateTime time = createdAt;
+            for (int i = 0; i < logCount(); i++) {
+                time = time.plusMinutes(30 + random.nextInt(72 * 60));
+                if (time.isAfter(dataset.now)) {
+                    time = dataset.now;
+                }
+                changeTimes.add(time);
+            }
+        }
+
+        Object[] orderRow(long orderId) {
+            String product = PRODUCTS[dataset.products.sample(random)];
+            Long materialId = random.nextDouble() < 0.8 ? dataset.materialIds[dataset.materials.sample(random)] : null;
+            String machine = status != Order.Status.PENDING ? MACHINES[random.nextInt(MACHINES.length)] : null;
+            LocalDate deadline = createdAt.toLocalDate().plusDays(7 + random.nextInt(24));
+            LocalDateTime updatedAt = changeTimes.isEmpty() ? createdAt : changeTimes.get(changeTimes.size() - 1);
+            return new Object[]{orderId, product, "Production order for " + product + " - Batch #" + orderId,
+                    priority.name(), status.name(), assigneeId, dataset.adminId,
+                    dataset.customerIds[dataset.customers.sample(random)], materialId,
+                    (double) (1 + random.nextInt(random.nextDouble() < 0.9 ? 100 : 5000)), deadline, machine,
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt)};
+        }
+
+        void addLogRows(List<Object[]> rows, long orderId, long firstLogId) {
+            Order.Status previous = Order.Status.PENDING;
+            for (int i = 0; i < changeTimes.size(); i++) {
+                Order.Status next = transition(i);
+                // La mayoría de los cambios los hace el operario asignado, el resto un manager
+                long changedBy = dataset.managerIds.length > 0 && random.nextDouble() < 0.2
+                        ? dataset.managerIds[random.nextInt(dataset.managerIds.length)] : assigneeId;
+                rows.add(new Object[]{firstLogId + i, orderId, previous.name(), next.name(),
+                        COMMENTS[random.nextInt(COMMENTS.length)], changedBy, Timestamp.valueOf(changeTimes.get(i))});
+                previous = next;
+            }
+        }
+
+        // Con reproceso: ... COMPLETED -> IN_PROGRESS -> COMPLETED ...
+        private int logCount() {
+            return status.ordinal() + (rework ? 2 : 0);
+        }
+
+        private Order.Status transition(int index) {
+            if (!rework || index < 2) {
+                return Order.Status.values()[index + 1];
+            }
+            return switch (index) {
+                case 2 -> Order.Status.IN_PROGRESS;
+                case 3 -> Order.Status.COMPLETED;
+                default -> Order.Status.DELIVERED;
+            };
+        }
+
+        // Volumen creciente (densidad lineal en el tiempo) y menos órdenes en fin de semana
+        private LocalDateTime createdAt() {
+            while (true) {
+                double t = Math.sqrt(random.nextDouble());
+                LocalDateTime candidate = dataset.from.plusSeconds((long) (t * dataset.spanSeconds));
+                DayOfWeek day = candidate.getDayOfWeek();
+                boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+                if (!weekend || random.nextDouble() < 0.3) {
+                    return candidate.withHour(6 + random.nextInt(16));
+                }
+            }
+        }
+
+        private Order.Status statusForAge(long ageDays) {
+            double p = random.nextDouble();
+            if (ageDays > 60) {
+                return p < 0.85 ? Order.Status.DELIVERED : p < 0.95 ? Order.Status.COMPLETED : Order.Status.IN_PROGRESS;
+            }
+            if (ageDays > 14) {
+                return p < 0.4 ? Order.Status.DELIVERED : p < 0.7 ? Order.Status.COMPLETED
+                        : p < 0.95 ? Order.Status.IN_PROGRESS : Order.Status.PENDING;
+            }
+            return p < 0.1 ? Order.Status.DELIVERED : p < 0.3 ? Order.Status.COMPLETED
+                    : p < 0.7 ? Order.Status.IN_PROGRESS : Order.Status.PENDING;
+        }
+    }
+
+    /**
+     * Índices 0..n-1 con probabilidad proporcional a 1/(i+1)^s.
+     */
+    private static final class ZipfSampler {
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double s) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, s);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.repository.CustomerRepository;
+import com.worktrack.backend.repository.MaterialRepository;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.UserRepository;
+import com.worktrack.backend.repository.VersionStamp;
+import com.worktrack.backend.security.CurrentUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Versiones de los recursos de lectura, calculadas con COUNT/MAX(updatedAt) en lugar de
+ * cargar y serializar los datos. Cualquier alta, modificación o baja cambia la versión.
+ */
+@Service
+public class EntityTagService {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    // Las respuestas de órdenes incluyen nombres de usuarios, clientes y materiales
+    @Transactional(readOnly = true)
+    public String ordersVersion() {
+        if (currentUser.isOperator()) {
+            return "orders:user=" + currentUser.getId()
+                    + ":" + stamp(orderRepository.versionStampByAssignedTo(currentUser.getId()))
+                    + ":" + referencesVersion();
+        }
+        return "orders:" + stamp(orderRepository.versionStamp()) + ":" + referencesVersion();
+    }
+
+    // null si la orden no existe o el operator no puede verla: sin ETag no hay 304 que
+    // revele su existencia y la petición sigue hasta la comprobación de permisos
+    @Transactional(readOnly = true)
+    public String orderVersion(Long id) {
+        VersionStamp order = currentUser.isOperator()
+                ? orderRepository.versionStampByIdAndAssignedTo(id, currentUser.getId())
+                : orderRepository.versionStampById(id);
+        if (order.getRowCount() == 0) {
+            return null;
+        }
+        return "order:user=" + currentUser.getId()
+                + ":" + stamp(order)
+                + ":" + referencesVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public String customersVersion() {
+        return "customers:" + stamp(customerRepository.versionStamp());
+    }
+
+    @Transactional(readOnly = true)
+    public String materialsVersion() {
+        return "materials:" + stamp(materialRepository.versionStamp());
+    }
+
+    @Transactional(readOnly = true)
+    public String usersVersion() {
+        return "users:" + stamp(userRepository.versionStamp());
+    }
+
+    private String referencesVersion() {
+        return stamp(userRepository.versionStamp())
+                + ":" + stamp(customerRepository.versionStamp())
+                + ":" + stamp(materialRepository.versionStamp());
+    }
+
+    private static String stamp(VersionStamp stamp) {
+        return stamp.getRowCount() + "@" + stamp.getLastUpdated();
+    }
+}
@@ -0,0 +1,137 @@
+package com.worktrack.backend.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado en memoria de un trabajo de exportación. Lo escribe el hilo del executor
+ * y lo leen las peticiones de consulta de progreso.
+ */
+public class ExportJob {
+
+    public enum Type {
+        ORDERS, STATUS_HISTORY
+    }
+
+    public enum Format {
+        CSV(".csv.gz", "application/gzip"),
+        XLSX(".xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Type type;
+    private final Format format;
+    private final List<String> columns;
+    private final Long ownerId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long totalRows;
+    private volatile Path file;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public ExportJob(String id, Type type, Format format, List<String> columns, Long ownerId) {
+        this.id = id;
+        this.type = type;
+        this.format = format;
+        this.columns = columns;
+        this.ownerId = ownerId;
+    }
+
+    public void start(long totalRows) {
+        this.totalRows = totalRows;
+        this.status = Status.RUNNING;
+    }
+
+    public void advance(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    public void complete(Path file) {
+        this.file = file;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public String getDownloadName() {
+        return (type == Type.ORDERS ? "orders-" : "status-history-") + id + format.getExtension();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
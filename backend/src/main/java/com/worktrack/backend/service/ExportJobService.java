@@ -0,0 +1,321 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.ExportJobRequest;
+import com.worktrack.backend.dto.ExportJobResponse;
+import com.worktrack.backend.dto.OrderFilter;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.StatusLog;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.OrderSpecifications;
+import com.worktrack.backend.repository.StatusLogRepository;
+import com.worktrack.backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Exportaciones CSV/XLSX en segundo plano. Los trabajos se ejecutan en un executor
+ * acotado, recorren las órdenes por lotes de id creciente (mismo filtro que
+ * /api/orders/filter) y dejan el fichero en disco para descargarlo después.
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private static final String[] DETAIL_PATHS = {"assignedTo", "createdBy", "customer", "material"};
+
+    private static final Map<String, Function<Order, Object>> ORDER_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<StatusLog, Object>> HISTORY_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        ORDER_COLUMNS.put("id", Order::getId);
+        ORDER_COLUMNS.put("product", Order::getProduct);
+        ORDER_COLUMNS.put("description", Order::getDescription);
+        ORDER_COLUMNS.put("priority", Order::getPriority);
+        ORDER_COLUMNS.put("status", Order::getStatus);
+        ORDER_COLUMNS.put("quantity", Order::getQuantity);
+        ORDER_COLUMNS.put("unit", o -> o.getMaterial() != null ? o.getMaterial().getUnit() : null);
+        ORDER_COLUMNS.put("material", o -> o.getMaterial() != null ? o.getMaterial().getName() : null);
+        ORDER_COLUMNS.put("customer", o -> o.getCustomer() != null ? o.getCustomer().getName() : null);
+        ORDER_COLUMNS.put("assignedTo", o -> o.getAssignedTo() != null ? o.getAssignedTo().getName() : null);
+        ORDER_COLUMNS.put("createdBy", o -> o.getCreatedBy() != null ? o.getCreatedBy().getName() : null);
+        ORDER_COLUMNS.put("machine", Order::getMachine);
+        ORDER_COLUMNS.put("deadline", Order::getDeadline);
+        ORDER_COLUMNS.put("createdAt", Order::getCreatedAt);
+        ORDER_COLUMNS.put("updatedAt", Order::getUpdatedAt);
+
+        HISTORY_COLUMNS.put("orderId", l -> l.getOrder().getId());
+        HISTORY_COLUMNS.put("product", l -> l.getOrder().getProduct());
+        HISTORY_COLUMNS.put("previousStatus", StatusLog::getPreviousStatus);
+        HISTORY_COLUMNS.put("newStatus", StatusLog::getNewStatus);
+        HISTORY_COLUMNS.put("comment", StatusLog::getComment);
+        HISTORY_COLUMNS.put("changedBy", l -> l.getChangedBy() != null ? l.getChangedBy().getName() : null);
+        HISTORY_COLUMNS.put("changedAt", StatusLog::getCreatedAt);
+    }
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Autowired
+    private StatusLogRepository statusLogRepository;
+
+    @Autowired
+    @Qualifier("exportExecutor")
+    private ThreadPoolTaskExecutor exportExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${exports.directory:${java.io.tmpdir}/worktrack-exports}")
+    private String directoryPath;
+
+    @Value("${exports.batch-size:500}")
+    private int batchSize;
+
+    @Value("${exports.retention-hours:24}")
+    private int retentionHours;
+
+    private Path directory;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = Paths.get(directoryPath);
+        Files.createDirectories(directory);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ExportJobResponse submit(ExportJobRequest request) {
+        ExportJob.Type type = ExportJob.Type.valueOf(request.getType());
+        ExportJob.Format format = ExportJob.Format.valueOf(request.getFormat());
+        List<String> columns = resolveColumns(type, request.getColumns());
+
+        Specification<Order> spec = OrderSpecifications.fromFilter(
+                request.getFilter() != null ? request.getFilter() : new OrderFilter());
+        // Operators solo exportan sus órdenes asignadas, igual que en los listados
+        if (currentUser.isOperator()) {
+            spec = spec.and(OrderSpecifications.assignedTo(currentUser.getId()));
+        }
+
+        purgeExpired();
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), type, format, columns, currentUser.getId());
+        jobs.put(job.getId(), job);
+
+        Specification<Order> filter = spec;
+        try {
+            exportExecutor.execute(() -> run(job, filter));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw new RuntimeException("Hay demasiadas exportaciones en curso, inténtalo más tarde");
+        }
+
+        return toResponse(job);
+    }
+
+    public List<ExportJobResponse> getMyJobs() {
+        Long userId = currentUser.getId();
+        return jobs.values().stream()
+                .filter(job -> job.getOwnerId().equals(userId))
+                .sorted(Comparator.comparing(ExportJob::getCreatedAt).reversed())
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public ExportJobResponse getJob(String id) {
+        return toResponse(findOwnJob(id));
+    }
+
+    public ExportJob getCompletedJob(String id) {
+        ExportJob job = findOwnJob(id);
+        if (job.getStatus() != ExportJob.Status.COMPLETED || !Files.exists(job.getFile())) {
+            throw new RuntimeException("La exportación todavía no está disponible");
+        }
+        return job;
+    }
+
+    private void run(ExportJob job, Specification<Order> spec) {
+        Path target = directory.resolve(job.getId() + job.getFormat().getExtension());
+        Path partial = directory.resolve(job.getId() + job.getFormat().getExtension() + ".part");
+
+        try {
+            job.start(readOnlyTransaction.execute(status -> orderRepository.count(spec)));
+
+            try (ExportWriter writer = ExportWriter.open(job.getFormat(), partial, job.getColumns())) {
+                Long lastId = 0L;
+                while (lastId != null) {
+                    Batch batch = readBatch(job, spec, lastId);
+                    for (List<Object> row : batch.rows) {
+                        writer.writeRow(row);
+                    }
+                    job.advance(batch.orders);
+                    lastId = batch.lastId;
+                }
+            }
+
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.complete(target);
+        } catch (Exception e) {
+            logger.error("Export job {} failed", job.getId(), e);
+            deleteQuietly(partial);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Lee un lote de órdenes con id mayor que afterId y lo convierte en filas dentro de
+     * una transacción corta; el contexto de persistencia se vacía al terminar.
+     */
+    private Batch readBatch(ExportJob job, Specification<Order> spec, Long afterId) {
+        return readOnlyTransaction.execute(status -> {
+            List<Order> orders = orderRepository.findBy(spec.and(OrderSpecifications.idGreaterThan(afterId)),
+                    query -> query.sortBy(Sort.by("id")).limit(batchSize).project(DETAIL_PATHS).all());
+
+            List<List<Object>> rows;
+            if (job.getType() == ExportJob.Type.ORDERS) {
+                rows = toRows(orders, job.getColumns(), ORDER_COLUMNS);
+            } else {
+                List<Long> ids = orders.stream().map(Order::getId).collect(Collectors.toList());
+                List<StatusLog> logs = ids.isEmpty()
+                        ? List.of()
+                        : statusLogRepository.findByOrderIdInOrderByOrderIdAscCreatedAtAsc(ids);
+                rows = toRows(logs, job.getColumns(), HISTORY_COLUMNS);
+            }
+            entityManager.clear();
+
+            Long lastId = orders.size() < batchSize ? null : orders.get(orders.size() - 1).getId();
+            return new Batch(rows, orders.size(), lastId);
+        });
+    }
+
+    private static <T> List<List<Object>> toRows(List<T> items, List<String> columns, Map<String, Function<T, Object>> available) {
+        List<List<Object>> rows = new ArrayList<>(items.size());
+        for (T item : items) {
+            List<Object> row = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                row.add(available.get(column).apply(item));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private List<String> resolveColumns(ExportJob.Type type, List<String> requested) {
+        Map<String, ?> available = type == ExportJob.Type.ORDERS ? ORDER_COLUMNS : HISTORY_COLUMNS;
+        if (requested == null || requested.isEmpty()) {
+            return List.copyOf(available.keySet());
+        }
+        for (String column : requested) {
+            if (!available.containsKey(column)) {
+                throw new RuntimeException("Columna no permitida: " + column);
+            }
+        }
+        return List.copyOf(requested);
+    }
+
+    private ExportJob findOwnJob(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null || (!job.getOwnerId().equals(currentUser.getId()) && currentUser.getRole() != User.Role.ADMIN)) {
+            throw new RuntimeException("Exportación no encontrada");
+        }
+        return job;
+    }
+
+    // Los trabajos terminados y sus ficheros se conservan retentionHours horas
+    private void purgeExpired() {
+        LocalDateTime limit = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getFinishedAt() != null && job.getFinishedAt().isBefore(limit);
+            if (expired && job.getFile() != null) {
+                deleteQuietly(job.getFile());
+            }
+            return expired;
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        ExportJobResponse response = new ExportJobResponse();
+        response.setId(job.getId());
+        response.setType(job.getType().name());
+        response.setFormat(job.getFormat().name());
+        response.setStatus(job.getStatus().name());
+        response.setColumns(job.getColumns());
+        response.setProcessedRows(job.getProcessedRows());
+        response.setTotalRows(job.getTotalRows());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        response.setError(job.getError());
+
+        if (job.getStatus() == ExportJob.Status.COMPLETED) {
+            response.setProgress(100);
+            try {
+                response.setFileSize(Files.size(job.getFile()));
+            } catch (IOException e) {
+                response.setFileSize(null);
+            }
+        } else if (job.getTotalRows() > 0) {
+            response.setProgress((int) Math.min(99, job.getProcessedRows() * 100 / job.getTotalRows()));
+        }
+
+        return response;
+    }
+
+    private static final class Batch {
+        private final List<List<Object>> rows;
+        private final int orders;
+        private final Long lastId;
+
+        private Batch(List<List<Object>> rows, int orders, Long lastId) {
+            this.rows = rows;
+            this.orders = orders;
+            this.lastId = lastId;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.worktrack.backend.service;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escritura fila a fila de un fichero de exportación. Ninguna implementación guarda
+ * en memoria más que un puñado de filas.
+ */
+interface ExportWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+
+    static ExportWriter open(ExportJob.Format format, Path file, List<String> header) throws IOException {
+        ExportWriter writer = format == ExportJob.Format.XLSX ? new Xlsx(file, header) : new Csv(file);
+        writer.writeRow(header);
+        return writer;
+    }
+
+    static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value.toString();
+    }
+
+    /**
+     * CSV en UTF-8 (con BOM para que Excel detecte la codificación) comprimido con gzip.
+     */
+    final class Csv implements ExportWriter {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Writer out;
+
+        Csv(Path file) throws IOException {
+            OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+            this.out = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+            out.write('\uFEFF');
+        }
+
+        @Override
+        public void writeRow(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(escape(text(values.get(i))));
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * XLSX con SXSSF: solo las últimas ROW_WINDOW filas quedan en memoria, el resto se
+     * vuelca a ficheros temporales comprimidos. Al llegar al límite de filas de Excel
+     * se continúa en una hoja nueva.
+     */
+    final class Xlsx implements ExportWriter {
+        private static final int ROW_WINDOW = 100;
+        private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+        private final Path file;
+        private final List<String> header;
+        private final SXSSFWorkbook workbook;
+        private SXSSFSheet sheet;
+        private int rowIndex;
+
+        Xlsx(Path file, List<String> header) {
+            this.file = file;
+            this.header = header;
+            this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+            workbook.setCompressTempFiles(true);
+        }
+
+        @Override
+        public void writeRow(List<?> values) {
+            if (sheet == null || rowIndex == MAX_ROWS) {
+                sheet = workbook.createSheet("Datos " + (workbook.getNumberOfSheets() + 1));
+                rowIndex = 0;
+                if (values != header) {
+                    appendRow(header);
+                }
+            }
+            appendRow(values);
+        }
+
+        private void appendRow(List<?> values) {
+            Row row = sheet.createRow(rowIndex++);
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else {
+                    cell.setCellValue(text(value));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            } finally {
+                workbook.dispose();
+                workbook.close();
+            }
+        }
+    }
+}
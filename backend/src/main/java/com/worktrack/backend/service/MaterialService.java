@@ -1,10 +1,13 @@
 package com.worktrack.backend.service;
 
+import com.worktrack.backend.config.CacheConfig;
 import com.worktrack.backend.dto.MaterialRequest;
 import com.worktrack.backend.dto.MaterialResponse;
 import com.worktrack.backend.entity.Material;
 import com.worktrack.backend.repository.MaterialRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,7 @@ public class MaterialService {
     @Autowired
     private MaterialRepository materialRepository;
 
+    @Cacheable(cacheNames = CacheConfig.MATERIALS, key = "'all'")
     @Transactional(readOnly = true)
     public List<MaterialResponse> getAllMaterials() {
         return materialRepository.findAllByOrderByNameAsc()
@@ -25,6 +29,7 @@ public class MaterialService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheConfig.MATERIAL_BY_ID)
     @Transactional(readOnly = true)
     public MaterialResponse getMaterialById(Long id) {
         Material material = materialRepository.findById(id)
@@ -32,6 +37,7 @@ public class MaterialService {
         return new MaterialResponse(material);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.MATERIALS, CacheConfig.MATERIAL_BY_ID, CacheConfig.MATERIAL_REFS}, allEntries = true)
     @Transactional
     public MaterialResponse createMaterial(MaterialRequest request) {
         // Check if material with same name already exists
@@ -50,6 +56,7 @@ public class MaterialService {
         return new MaterialResponse(saved);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.MATERIALS, CacheConfig.MATERIAL_BY_ID, CacheConfig.MATERIAL_REFS}, allEntries = true)
     @Transactional
     public MaterialResponse updateMaterial(Long id, MaterialRequest request) {
         Material material = materialRepository.findById(id)
@@ -71,6 +78,7 @@ public class MaterialService {
         return new MaterialResponse(updated);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.MATERIALS, CacheConfig.MATERIAL_BY_ID, CacheConfig.MATERIAL_REFS}, allEntries = true)
     @Transactional
     public void deleteMaterial(Long id) {
         if (!materialRepository.existsById(id)) {
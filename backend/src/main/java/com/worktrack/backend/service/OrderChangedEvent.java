@@ -0,0 +1,48 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderResponse;
+
+/**
+ * Cambio en una orden, publicado por OrderService dentro de la transacción y
+ * entregado a OrderEventBroadcaster solo si esta se confirma.
+ */
+public class OrderChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    private final Type type;
+    private final Long orderId;
+    private final Long assigneeId;
+    private final Long previousAssigneeId;
+    private final OrderResponse order; // null en DELETED
+
+    public OrderChangedEvent(Type type, Long orderId, Long assigneeId, Long previousAssigneeId, OrderResponse order) {
+        this.type = type;
+        this.orderId = orderId;
+        this.assigneeId = assigneeId;
+        this.previousAssigneeId = previousAssigneeId;
+        this.order = order;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getPreviousAssigneeId() {
+        return previousAssigneeId;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+}
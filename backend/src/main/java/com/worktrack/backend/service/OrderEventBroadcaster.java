@@ -0,0 +1,263 @@
+package com.worktrack.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reparte los cambios de órdenes a los clientes SSE (/api/orders/events).
+ *
+ * El listener solo encola: cada cliente tiene una cola acotada que vacía su propia tarea
+ * en orderEventsExecutor (pool fijo), así que ningún hilo de Tomcat queda retenido por una
+ * conexión abierta. Si la cola de un cliente se llena (consumidor lento) o un envío tarda
+ * más de write-timeout-ms, se le da de baja y deja de recibir mensajes; el envío bloqueado
+ * falla cuando vence el timeout de escritura de Tomcat y entonces se cierra la conexión. Al
+ * reconectar puede recuperar lo perdido con /api/orders/changes.
+ */
+@Service
+public class OrderEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventBroadcaster.class);
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    @Qualifier("orderEventsExecutor")
+    private ThreadPoolTaskExecutor orderEventsExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Value("${orders.events.max-clients:2000}")
+    private int maxClients;
+
+    @Value("${orders.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${orders.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${orders.events.write-timeout-ms:10000}")
+    private long writeTimeoutMs;
+
+    // Plazas libres de max-clients; se reservan antes de registrar al cliente
+    private Semaphore slots;
+
+    @PostConstruct
+    public void init() {
+        slots = new Semaphore(maxClients);
+    }
+
+    public SseEmitter subscribe() {
+        if (!slots.tryAcquire()) {
+            throw new RuntimeException("Demasiadas conexiones de eventos abiertas");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(UUID.randomUUID().toString(), currentUser.getId(),
+                currentUser.isOperator(), emitter, bufferSize);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> evict(subscriber));
+        emitter.onError(e -> evict(subscriber));
+        subscribers.put(subscriber.id, subscriber);
+
+        enqueue(subscriber, new Message(null, "CONNECTED", "{}"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String id = String.valueOf(sequence.incrementAndGet());
+        Message full = new Message(id, event.getType().name(), toJson(event.getOrderId(), event.getOrder()));
+        Message removed = new Message(id, "REMOVED", toJson(event.getOrderId(), null));
+
+        for (Subscriber subscriber : subscribers.values()) {
+            // Operators solo reciben sus órdenes; si se la reasignan a otro, la ven desaparecer
+            if (!subscriber.operator || Objects.equals(subscriber.userId, event.getAssigneeId())) {
+                enqueue(subscriber, full);
+            } else if (Objects.equals(subscriber.userId, event.getPreviousAssigneeId())) {
+                enqueue(subscriber, removed);
+            }
+        }
+    }
+
+    // Mantiene viva la conexión a través de proxies y detecta clientes desconectados
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, Message.HEARTBEAT);
+        }
+    }
+
+    // Cierra los clientes cuyo envío en curso lleva más de write-timeout-ms bloqueado
+    @Scheduled(fixedDelayString = "${orders.events.write-timeout-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        long writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        for (Subscriber subscriber : subscribers.values()) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > writeTimeoutNanos) {
+                logger.warn("Evicting stalled SSE client {} (user {})", subscriber.id, subscriber.userId);
+                evict(subscriber);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(message)) {
+            logger.warn("Evicting slow SSE client {} (user {})", subscriber.id, subscriber.userId);
+            evict(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                orderEventsExecutor.execute(() -> drain(subscriber));
+            } catch (TaskRejectedException e) {
+                subscriber.draining.set(false);
+                evict(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+
+            Message message = subscriber.queue.poll();
+            if (message == null) {
+                subscriber.draining.set(false);
+                // Un mensaje encolado (o un evict) justo después del poll, sin nadie drenando
+                if ((subscriber.queue.isEmpty() && !subscriber.closed)
+                        || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            subscriber.sendStartedAt = System.nanoTime();
+            try {
+                subscriber.emitter.send(message.toEvent());
+            } catch (IOException | IllegalStateException e) {
+                evict(subscriber);
+            } finally {
+                subscriber.sendStartedAt = 0;
+            }
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (unregister(subscriber)) {
+            subscriber.closed = true;
+            subscriber.queue.clear();
+            // Con un envío en curso el emitter está bloqueado por ese hilo: lo cierra drain
+            // al terminar, para no dejar también aquí un hilo esperando
+            if (subscriber.draining.compareAndSet(false, true)) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private boolean unregister(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.id) != null) {
+            slots.release();
+            return true;
+        }
+        return false;
+    }
+
+    private String toJson(Long orderId, Object order) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", orderId);
+        if (order != null) {
+            payload.put("order", order);
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Subscriber {
+        private final String id;
+        private final Long userId;
+        private final boolean operator;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // System.nanoTime() del envío en curso, 0 si no hay ninguno
+        private volatile long sendStartedAt;
+
+        private Subscriber(String id, Long userId, boolean operator, SseEmitter emitter, int bufferSize) {
+            this.id = id;
+            this.userId = userId;
+            this.operator = operator;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class Message {
+        private static final Message HEARTBEAT = new Message(null, null, null);
+
+        private final String id;
+        private final String name;
+        private final String data;
+
+        private Message(String id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(id) : event;
+        }
+    }
+}
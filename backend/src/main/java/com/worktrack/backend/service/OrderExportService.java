@@ -0,0 +1,80 @@
+package com.worktrack.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.security.CurrentUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportación completa de órdenes en NDJSON (una orden por línea). Las filas se leen con
+ * un cursor y se escriben según llegan, así que la memoria usada no depende del volumen.
+ */
+@Service
+public class OrderExportService {
+
+    // Cada cuántas filas se vacía el contexto de persistencia
+    private static final int CLEAR_INTERVAL = OrderRepository.EXPORT_FETCH_SIZE;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StreamingResponseBody exportNdjson() {
+        // El usuario se resuelve en el hilo de la petición; el cuerpo se escribe en un hilo async
+        Long assigneeId = currentUser.isOperator() ? currentUser.getId() : null;
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        return out -> transaction.executeWithoutResult(status -> writeNdjson(out, assigneeId));
+    }
+
+    private void writeNdjson(OutputStream out, Long assigneeId) {
+        try (Stream<Order> orders = assigneeId != null
+                ? orderRepository.streamByAssignedToForExport(assigneeId)
+                : orderRepository.streamAllForExport()) {
+            int written = 0;
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(orderMapper.toResponse(iterator.next())));
+                out.write('\n');
+
+                if (++written % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
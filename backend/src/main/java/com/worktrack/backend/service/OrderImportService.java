@@ -0,0 +1,426 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderImportResponse;
+import com.worktrack.backend.entity.Customer;
+import com.worktrack.backend.entity.Material;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.OrderDailyStatKey;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.CustomerRepository;
+import com.worktrack.backend.repository.MaterialRepository;
+import com.worktrack.backend.repository.UserRepository;
+import com.worktrack.backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de órdenes desde CSV, con las mismas reglas que OrderService.createOrder.
+ * El fichero se lee dos veces sin cargarlo en memoria: la primera pasada reúne los ids de
+ * usuarios, clientes y materiales para resolverlos con una consulta por tipo; la segunda
+ * valida cada fila e inserta las válidas en lotes JDBC, cada lote en su propia transacción
+ * junto con el delta agregado del rollup. Si la base de datos rechaza un lote, sus filas se
+ * reintentan una a una y las que fallan se informan como errores de fila, así que la
+ * respuesta siempre refleja lo que ha quedado guardado.
+ *
+ * Las filas se insertan directamente (sin pasar por el contexto de persistencia), así que
+ * createdAt/updatedAt se asignan aquí y no se publican eventos SSE: los clientes las
+ * reciben por /api/orders/changes.
+ */
+@Service
+public class OrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // Debe coincidir con el @SequenceGenerator de Order.id
+    private static final String ORDER_SEQUENCE = "orders_seq";
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String INSERT =
+            "INSERT INTO orders (id, product, description, priority, status, assigned_to_id, created_by_id, " +
+            "customer_id, material_id, quantity, deadline, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // orders.product es VARCHAR(255)
+    private static final int MAX_PRODUCT_LENGTH = 255;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("product", "priority", "assignedToId", "deadline");
+
+    private static final DateTimeFormatter SLASH_DATE = DateTimeFormatter.ofPattern("yyyy/M/d");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${orders.import.batch-size:1000}")
+    private int batchSize;
+
+    private String nextSequenceValueSql;
+    private TransactionTemplate batchTransaction;
+
+    @PostConstruct
+    public void init() {
+        // "select nextval(...)" en PostgreSQL, "call next value for ..." en H2
+        nextSequenceValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(ORDER_SEQUENCE);
+        batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public OrderImportResponse importCsv(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("El fichero está vacío");
+        }
+
+        Long createdById = currentUser.getId();
+        References references = resolveReferences(file);
+
+        OrderImportResponse response = new OrderImportResponse();
+        try (CsvReader reader = open(file)) {
+            Map<String, Integer> columns = readHeader(reader);
+            List<Order> batch = new ArrayList<>(batchSize);
+            List<Integer> batchRows = new ArrayList<>(batchSize);
+            int rowNumber = 1;
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                rowNumber++;
+                if (isBlank(row)) {
+                    continue;
+                }
+                response.setTotalRows(response.getTotalRows() + 1);
+                try {
+                    batch.add(toOrder(row, columns, references));
+                    batchRows.add(rowNumber);
+                } catch (IllegalArgumentException e) {
+                    addError(response, rowNumber, e.getMessage());
+                }
+                if (batch.size() == batchSize) {
+                    importBatch(batch, batchRows, createdById, response);
+                    batch.clear();
+                    batchRows.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, batchRows, createdById, response);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("No se pudo leer el fichero: " + e.getMessage());
+        }
+
+        logger.info("Importación CSV: {} filas, {} importadas, {} con errores",
+                response.getTotalRows(), response.getImported(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * Primera pasada: solo se recogen los ids referenciados.
+     */
+    private References resolveReferences(MultipartFile file) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> materialIds = new HashSet<>();
+
+        try (CsvReader reader = open(file)) {
+            Map<String, Integer> columns = readHeader(reader);
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                addId(userIds, value(row, columns, "assignedToId"));
+                addId(customerIds, value(row, columns, "customerId"));
+                addId(materialIds, value(row, columns, "materialId"));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("No se pudo leer el fichero: " + e.getMessage());
+        }
+
+        return new References(
+                userRepository.findAllById(userIds).stream().collect(Collectors.toMap(User::getId, Function.identity())),
+                customerRepository.findAllById(customerIds).stream().collect(Collectors.toMap(Customer::getId, Function.identity())),
+                materialRepository.findAllById(materialIds).stream().collect(Collectors.toMap(Material::getId, Function.identity())));
+    }
+
+    // Mismas reglas que OrderRequest + OrderService.createOrder
+    private Order toOrder(List<String> row, Map<String, Integer> columns, References references) {
+        String product = value(row, columns, "product");
+        if (product == null) {
+            throw new IllegalArgumentException("Producto es requerido");
+        }
+        if (product.length() > MAX_PRODUCT_LENGTH) {
+            throw new IllegalArgumentException("Producto no puede superar " + MAX_PRODUCT_LENGTH + " caracteres");
+        }
+
+        String priority = value(row, columns, "priority");
+        if (priority == null) {
+            throw new IllegalArgumentException("Prioridad es requerida");
+        }
+
+        Long assignedToId = parseId(value(row, columns, "assignedToId"), "assignedToId");
+        if (assignedToId == null) {
+            throw new IllegalArgumentException("Asignado a es requerido");
+        }
+        User assignedTo = references.users.get(assignedToId);
+        if (assignedTo == null) {
+            throw new IllegalArgumentException("Usuario asignado no encontrado");
+        }
+
+        Order order = new Order();
+        order.setProduct(product);
+        order.setDescription(value(row, columns, "description"));
+        try {
+            order.setPriority(Order.Priority.valueOf(priority.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Prioridad inválida: " + priority);
+        }
+        order.setStatus(Order.Status.PENDING);
+        order.setAssignedTo(assignedTo);
+        order.setDeadline(parseDeadline(value(row, columns, "deadline")));
+
+        Long customerId = parseId(value(row, columns, "customerId"), "customerId");
+        if (customerId != null) {
+            Customer customer = references.customers.get(customerId);
+            if (customer == null) {
+                throw new IllegalArgumentException("Cliente no encontrado");
+            }
+            order.setCustomer(customer);
+        }
+
+        Long materialId = parseId(value(row, columns, "materialId"), "materialId");
+        if (materialId != null) {
+            Material material = references.materials.get(materialId);
+            if (material == null) {
+                throw new IllegalArgumentException("Material no encontrado");
+            }
+            order.setMaterial(material);
+        }
+
+        String quantity = value(row, columns, "quantity");
+        if (quantity != null) {
+            try {
+                order.setQuantity(Double.valueOf(quantity.replace(',', '.')));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Cantidad inválida: " + quantity);
+            }
+        }
+        return order;
+    }
+
+    // Un lote rechazado se reintenta fila a fila para guardar las válidas y señalar las demás
+    private void importBatch(List<Order> batch, List<Integer> batchRows, Long createdById,
+                             OrderImportResponse response) {
+        try {
+            insertBatch(batch, createdById);
+            response.setImported(response.getImported() + batch.size());
+            return;
+        } catch (DataAccessException e) {
+            logger.warn("Importación CSV: lote de {} filas rechazado, se reintenta fila a fila: {}",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                insertBatch(List.of(batch.get(i)), createdById);
+                response.setImported(response.getImported() + 1);
+            } catch (DataAccessException e) {
+                // El mensaje de la base de datos incluye la sentencia SQL: solo va al log
+                logger.warn("Importación CSV: fila {} rechazada: {}", batchRows.get(i), e.getMostSpecificCause().getMessage());
+                addError(response, batchRows.get(i), "No se pudo guardar la fila en la base de datos");
+            }
+        }
+    }
+
+    /**
+     * Un lote = una transacción: ids de la secuencia, un batchUpdate y el delta del rollup.
+     * Las marcas de tiempo se toman al insertar cada lote para que la sincronización
+     * incremental (ventana de seguridad de pocos segundos) no pierda filas.
+     */
+    private void insertBatch(List<Order> batch, Long createdById) {
+        batchTransaction.executeWithoutResult(status -> {
+            List<Long> ids = allocateIds(batch.size());
+            LocalDateTime now = LocalDateTime.now();
+            Map<OrderDailyStatKey, Long> deltas = new HashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Order order = batch.get(i);
+                order.setId(ids.get(i));
+                order.setCreatedAt(now);
+                order.setUpdatedAt(now);
+                deltas.merge(OrderDailyStatKey.of(order), 1L, Long::sum);
+            }
+
+            Timestamp timestamp = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, order) -> {
+                ps.setLong(1, order.getId());
+                ps.setString(2, order.getProduct());
+                ps.setString(3, order.getDescription());
+                ps.setString(4, order.getPriority().name());
+                ps.setString(5, order.getStatus().name());
+                ps.setLong(6, order.getAssignedTo().getId());
+                ps.setLong(7, createdById);
+                ps.setObject(8, order.getCustomer() != null ? order.getCustomer().getId() : null, Types.BIGINT);
+                ps.setObject(9, order.getMaterial() != null ? order.getMaterial().getId() : null, Types.BIGINT);
+                ps.setObject(10, order.getQuantity(), Types.DOUBLE);
+                ps.setObject(11, order.getDeadline(), Types.DATE);
+                ps.setTimestamp(12, timestamp);
+                ps.setTimestamp(13, timestamp);
+            });
+            orderStatsService.recordDeltas(deltas);
+        });
+    }
+
+    /**
+     * Reserva ids como el optimizador pooled de Hibernate: cada nextval devuelve el valor
+     * más alto de un bloque de SEQUENCE_INCREMENT ids, así que no hay solapes con la
+     * aplicación ni con otras importaciones.
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long hi = jdbcTemplate.queryForObject(nextSequenceValueSql, Long.class);
+            for (long id = Math.max(1, hi - SEQUENCE_INCREMENT + 1); id <= hi && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private CsvReader open(MultipartFile file) throws IOException {
+        return new CsvReader(new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)));
+    }
+
+    // Columnas por nombre (sin distinguir mayúsculas), en cualquier orden
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new RuntimeException("El fichero está vacío");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Faltan columnas obligatorias: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String value(List<String> row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseId(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " inválido: " + value);
+        }
+    }
+
+    private static void addId(Set<Long> ids, String value) {
+        if (value != null) {
+            try {
+                ids.add(Long.valueOf(value));
+            } catch (NumberFormatException e) {
+                // Se informa como error de la fila en la segunda pasada
+            }
+        }
+    }
+
+    // ISO (2025-03-31) o el formato habitual de las hojas de cálculo japonesas (2025/3/31)
+    private static LocalDate parseDeadline(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Fecha límite es requerida");
+        }
+        try {
+            return value.indexOf('/') >= 0 ? LocalDate.parse(value, SLASH_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha límite inválida: " + value);
+        }
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.stream().allMatch(field -> field.trim().isEmpty());
+    }
+
+    private static void addError(OrderImportResponse response, int rowNumber, String message) {
+        response.setFailed(response.getFailed() + 1);
+        if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+            response.getErrors().add(new OrderImportResponse.RowErrorDTO(rowNumber, message));
+        } else {
+            response.setErrorsTruncated(true);
+        }
+    }
+
+    private static final class References {
+        private final Map<Long, User> users;
+        private final Map<Long, Customer> customers;
+        private final Map<Long, Material> materials;
+
+        private References(Map<Long, User> users, Map<Long, Customer> customers, Map<Long, Material> materials) {
+            this.users = users;
+            this.customers = customers;
+            this.materials = materials;
+        }
+    }
+}
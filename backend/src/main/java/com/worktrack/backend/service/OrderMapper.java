@@ -0,0 +1,101 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.service.ReferenceDataService.CustomerRef;
+import com.worktrack.backend.service.ReferenceDataService.MaterialRef;
+import com.worktrack.backend.service.ReferenceDataService.UserRef;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión de Order a OrderResponse compartida por los listados y la exportación.
+ * Espera que las asociaciones ya estén cargadas (ver Order.GRAPH_DETAILS).
+ */
+@Component
+public class OrderMapper {
+
+    public OrderResponse toResponse(Order order) {
+        OrderResponse response = toResponseWithoutAssociations(order);
+
+        if (order.getAssignedTo() != null) {
+            response.setAssignedTo(new OrderResponse.UserBasicDTO(
+                    order.getAssignedTo().getId(),
+                    order.getAssignedTo().getName(),
+                    order.getAssignedTo().getEmail()
+            ));
+        }
+
+        if (order.getCreatedBy() != null) {
+            response.setCreatedBy(new OrderResponse.UserBasicDTO(
+                    order.getCreatedBy().getId(),
+                    order.getCreatedBy().getName(),
+                    order.getCreatedBy().getEmail()
+            ));
+        }
+
+        if (order.getCustomer() != null) {
+            response.setCustomer(new OrderResponse.CustomerBasicDTO(
+                    order.getCustomer().getId(),
+                    order.getCustomer().getName(),
+                    order.getCustomer().getCompany()
+            ));
+        }
+
+        if (order.getMaterial() != null) {
+            response.setMaterial(new OrderResponse.MaterialBasicDTO(
+                    order.getMaterial().getId(),
+                    order.getMaterial().getName(),
+                    order.getMaterial().getUnit()
+            ));
+        }
+
+        return response;
+    }
+
+    /**
+     * Para órdenes recién creadas o editadas, cuyas asociaciones son referencias sin cargar
+     * (getReferenceById): sus datos vienen de ReferenceDataService y no se inicializa ningún proxy.
+     */
+    public OrderResponse toResponse(Order order, UserRef assignedTo, UserRef createdBy,
+                                    CustomerRef customer, MaterialRef material) {
+        OrderResponse response = toResponseWithoutAssociations(order);
+
+        if (assignedTo != null) {
+            response.setAssignedTo(new OrderResponse.UserBasicDTO(
+                    assignedTo.getId(), assignedTo.getName(), assignedTo.getEmail()));
+        }
+
+        if (createdBy != null) {
+            response.setCreatedBy(new OrderResponse.UserBasicDTO(
+                    createdBy.getId(), createdBy.getName(), createdBy.getEmail()));
+        }
+
+        if (customer != null) {
+            response.setCustomer(new OrderResponse.CustomerBasicDTO(
+                    customer.getId(), customer.getName(), customer.getCompany()));
+        }
+
+        if (material != null) {
+            response.setMaterial(new OrderResponse.MaterialBasicDTO(
+                    material.getId(), material.getName(), material.getUnit()));
+        }
+
+        return response;
+    }
+
+    private OrderResponse toResponseWithoutAssociations(Order order) {
+        OrderResponse response = new OrderResponse();
+        response.setId(order.getId());
+        response.setProduct(order.getProduct());
+        response.setDescription(order.getDescription());
+        response.setPriority(order.getPriority().name());
+        response.setStatus(order.getStatus().name());
+        response.setDeadline(order.getDeadline());
+        response.setMachine(order.getMachine());
+        response.setCreatedAt(order.getCreatedAt());
+        response.setUpdatedAt(order.getUpdatedAt());
+        response.setQuantity(order.getQuantity());
+
+        return response;
+    }
+}
@@ -0,0 +1,160 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.dto.PageResponse;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.OrderSpecifications;
+import com.worktrack.backend.security.CurrentUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda de órdenes por texto en producto, descripción y comentarios de cambios de estado.
+ *
+ * Con orders.search.mode=fulltext (PostgreSQL) se usan columnas tsvector generadas con índice
+ * GIN y similitud de trigramas (pg_trgm) sobre el producto, para fragmentos y códigos mal
+ * escritos; los resultados se ordenan por relevancia. En cualquier otro caso (H2 en dev) se
+ * recurre a LIKE, ordenado por fecha de modificación.
+ */
+@Service
+public class OrderSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSearchService.class);
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // Columnas e índices creados por db/migration/postgresql/V5__search.sql
+    private static final String FULLTEXT_PROBE = "SELECT search_vector FROM orders WHERE 1 = 0";
+
+    // Cada rama usa su propio índice; una orden puntúa por la suma de sus coincidencias
+    private static final String FULLTEXT_HITS =
+            "WITH q AS (SELECT websearch_to_tsquery('simple', ?) AS query), " +
+            "hits AS (" +
+            "SELECT o.id, ts_rank(o.search_vector, q.query) AS rank FROM orders o, q WHERE o.search_vector @@ q.query " +
+            "UNION ALL " +
+            "SELECT o.id, word_similarity(?, o.product) FROM orders o WHERE ? <% o.product " +
+            "UNION ALL " +
+            "SELECT l.order_id, ts_rank(l.search_vector, q.query) * 0.5 FROM status_logs l, q WHERE l.search_vector @@ q.query" +
+            ") ";
+
+    private static final String FULLTEXT_SEARCH = FULLTEXT_HITS +
+            "SELECT h.id, SUM(h.rank) AS score, COUNT(*) OVER () AS total " +
+            "FROM hits h JOIN orders o ON o.id = h.id {assigneeFilter}" +
+            "GROUP BY h.id ORDER BY score DESC, h.id DESC LIMIT ? OFFSET ?";
+
+    private static final String FULLTEXT_COUNT = FULLTEXT_HITS +
+            "SELECT COUNT(DISTINCT h.id) FROM hits h JOIN orders o ON o.id = h.id {assigneeFilter}";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Value("${orders.search.mode:like}")
+    private String mode;
+
+    private volatile boolean fullText;
+
+    /**
+     * Comprueba que la migración de búsqueda está aplicada; si no (p. ej. otra base de datos
+     * con mode=fulltext) se sigue funcionando con LIKE.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareFullText() {
+        if (!"fulltext".equalsIgnoreCase(mode)) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList(FULLTEXT_PROBE);
+            fullText = true;
+            logger.info("Búsqueda de órdenes: texto completo (tsvector + pg_trgm)");
+        } catch (DataAccessException e) {
+            logger.warn("Columnas de búsqueda de texto completo no disponibles, se usará LIKE: {}", e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<OrderResponse> search(String q, int page, int size) {
+        if (q == null || q.trim().isEmpty()) {
+            throw new RuntimeException("Texto de búsqueda requerido");
+        }
+        String term = q.trim();
+        if (term.length() > MAX_QUERY_LENGTH) {
+            throw new RuntimeException("Texto de búsqueda demasiado largo");
+        }
+
+        // Operators solo encuentran sus órdenes asignadas
+        Long assigneeId = currentUser.isOperator() ? currentUser.getId() : null;
+        return fullText ? searchFullText(term, assigneeId, page, size) : searchLike(term, assigneeId, page, size);
+    }
+
+    private PageResponse<OrderResponse> searchFullText(String term, Long assigneeId, int page, int size) {
+        List<Object> args = new ArrayList<>(List.of(term, term, term));
+        String assigneeFilter = "";
+        if (assigneeId != null) {
+            assigneeFilter = "WHERE o.assigned_to_id = ? ";
+            args.add(assigneeId);
+        }
+        List<Object> countArgs = new ArrayList<>(args);
+        args.add(size);
+        args.add((long) page * size);
+
+        long[] total = {0};
+        List<Long> ids = jdbcTemplate.query(FULLTEXT_SEARCH.replace("{assigneeFilter}", assigneeFilter), (rs, rowNum) -> {
+            total[0] = rs.getLong("total");
+            return rs.getLong("id");
+        }, args.toArray());
+        // Una página más allá del final no trae filas de las que leer el total
+        if (ids.isEmpty() && page > 0) {
+            total[0] = jdbcTemplate.queryForObject(FULLTEXT_COUNT.replace("{assigneeFilter}", assigneeFilter),
+                    Long.class, countArgs.toArray());
+        }
+
+        // Se cargan con su grafo de asociaciones y se devuelven en el orden de relevancia
+        Map<Long, Order> orders = orderRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<OrderResponse> items = ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(orderMapper::toResponse)
+                .collect(Collectors.toList());
+
+        int totalPages = (int) ((total[0] + size - 1) / size);
+        return new PageResponse<>(items, page, size, total[0], totalPages);
+    }
+
+    private PageResponse<OrderResponse> searchLike(String term, Long assigneeId, int page, int size) {
+        Specification<Order> spec = Specification.where(OrderSpecifications.matchesTextOrComment(term))
+                .and(OrderSpecifications.assignedTo(assigneeId));
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updatedAt", "id"));
+        Page<Order> result = orderRepository.findAll(spec, pageable);
+        return new PageResponse<>(result.map(orderMapper::toResponse));
+    }
+}
@@ -1,72 +1,126 @@
 package com.worktrack.backend.service;
 
+import com.worktrack.backend.dto.BulkStatusChangeRequest;
+import com.worktrack.backend.dto.BulkStatusChangeResponse;
+import com.worktrack.backend.dto.CursorPage;
+import com.worktrack.backend.dto.OrderFilter;
 import com.worktrack.backend.dto.OrderRequest;
 import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.dto.PageResponse;
 import com.worktrack.backend.dto.StatusChangeRequest;
-import com.worktrack.backend.entity.Customer;
-import com.worktrack.backend.entity.Material;
 import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.OrderDailyStatKey;
 import com.worktrack.backend.entity.StatusLog;
 import com.worktrack.backend.entity.User;
 import com.worktrack.backend.repository.CustomerRepository;
 import com.worktrack.backend.repository.MaterialRepository;
 import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.OrderSpecifications;
 import com.worktrack.backend.repository.StatusLogRepository;
 import com.worktrack.backend.repository.UserRepository;
-import com.worktrack.backend.security.UserDetailsImpl;
+import com.worktrack.backend.security.CurrentUser;
+import com.worktrack.backend.service.ReferenceDataService.CustomerRef;
+import com.worktrack.backend.service.ReferenceDataService.MaterialRef;
+import com.worktrack.backend.service.ReferenceDataService.UserRef;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "product", "priority", "status", "quantity", "deadline", "machine", "createdAt", "updatedAt");
+
     @Autowired
     private OrderRepository orderRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private CurrentUser currentUser;
+
     @Autowired
     private StatusLogRepository statusLogRepository;
 
     @Autowired
-    private CustomerRepository customerRepository;
+    private OrderStatsService orderStatsService;
 
     @Autowired
-    private MaterialRepository materialRepository;
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderSyncService orderSyncService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Value("${orders.page.default-limit:50}")
+    private int defaultPageLimit;
+
+    @Value("${orders.page.max-limit:200}")
+    private int maxPageLimit;
+
+    @Value("${orders.detail.status-log-limit:20}")
+    private int statusLogLimit;
 
     @Transactional
     public OrderResponse createOrder(OrderRequest request) {
-        User currentUser = getCurrentUser();
-        User assignedUser = userRepository.findById(request.getAssignedToId())
+        UserRef assignedUser = referenceDataService.findUser(request.getAssignedToId())
                 .orElseThrow(() -> new RuntimeException("Usuario asignado no encontrado"));
+        UserRef createdBy = referenceDataService.findUser(currentUser.getId())
+                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
         Order order = new Order();
         order.setProduct(request.getProduct());
         order.setDescription(request.getDescription());
         order.setPriority(Order.Priority.valueOf(request.getPriority()));
         order.setStatus(Order.Status.PENDING);
-        order.setAssignedTo(assignedUser);
-        order.setCreatedBy(currentUser);
+        // Referencias sin SELECT; los datos de la respuesta salen de ReferenceDataService
+        order.setAssignedTo(userRepository.getReferenceById(assignedUser.getId()));
+        order.setCreatedBy(userRepository.getReferenceById(createdBy.getId()));
         order.setDeadline(request.getDeadline());
 
         // Set customer if provided
+        CustomerRef customer = null;
         if (request.getCustomerId() != null) {
-            Customer customer = customerRepository.findById(request.getCustomerId())
+            customer = referenceDataService.findCustomer(request.getCustomerId())
                     .orElseThrow(() -> new RuntimeException("Cliente no encontrado"));
-            order.setCustomer(customer);
+            order.setCustomer(customerRepository.getReferenceById(customer.getId()));
         }
 
         // Set material if provided
+        MaterialRef material = null;
         if (request.getMaterialId() != null) {
-            Material material = materialRepository.findById(request.getMaterialId())
+            material = referenceDataService.findMaterial(request.getMaterialId())
                     .orElseThrow(() -> new RuntimeException("Material no encontrado"));
-            order.setMaterial(material);
+            order.setMaterial(materialRepository.getReferenceById(material.getId()));
         }
 
         // Set quantity if provided
@@ -75,30 +129,91 @@ public class OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
-        return mapToResponse(savedOrder);
+        orderStatsService.recordCreated(savedOrder);
+        OrderResponse response = orderMapper.toResponse(savedOrder, assignedUser, createdBy, customer, material);
+        publishChange(OrderChangedEvent.Type.CREATED, savedOrder, null, response);
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
-        User currentUser = getCurrentUser();
         List<Order> orders;
 
         // Operators solo ven sus órdenes asignadas
-        if (currentUser.getRole() == User.Role.OPERATOR) {
-            orders = orderRepository.findByAssignedTo(currentUser);
+        if (currentUser.isOperator()) {
+            orders = orderRepository.findByAssignedToId(currentUser.getId());
         } else {
             orders = orderRepository.findAllByOrderByCreatedAtDesc();
         }
 
-        return orders.stream().map(this::mapToResponse).collect(Collectors.toList());
+        return orders.stream().map(orderMapper::toResponse).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getOrdersPage(String cursor, Integer limit) {
+        int pageLimit = resolvePageLimit(limit);
+        // Se pide un elemento extra para saber si existe una página siguiente
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        boolean operator = currentUser.isOperator();
+        List<Order> orders;
+
+        if (cursor == null || cursor.isEmpty()) {
+            orders = operator
+                    ? orderRepository.findByAssignedToIdOrderByCreatedAtDescIdDesc(currentUser.getId(), pageable)
+                    : orderRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            orders = operator
+                    ? orderRepository.findPageByAssignedToAfter(currentUser.getId(), after.getTimestamp(), after.getId(), pageable)
+                    : orderRepository.findPageAfter(after.getTimestamp(), after.getId(), pageable);
+        }
+
+        return toCursorPage(orders, pageLimit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getOrdersByStatusPage(String status, String cursor, Integer limit) {
+        Order.Status orderStatus = Order.Status.valueOf(status);
+        int pageLimit = resolvePageLimit(limit);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        boolean operator = currentUser.isOperator();
+        List<Order> orders;
+
+        if (cursor == null || cursor.isEmpty()) {
+            orders = operator
+                    ? orderRepository.findByStatusAndAssignedToIdOrderByCreatedAtDescIdDesc(orderStatus, currentUser.getId(), pageable)
+                    : orderRepository.findByStatusOrderByCreatedAtDescIdDesc(orderStatus, pageable);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            orders = operator
+                    ? orderRepository.findPageByStatusAndAssignedToAfter(orderStatus, currentUser.getId(),
+                            after.getTimestamp(), after.getId(), pageable)
+                    : orderRepository.findPageByStatusAfter(orderStatus, after.getTimestamp(), after.getId(), pageable);
+        }
+
+        return toCursorPage(orders, pageLimit);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<OrderResponse> filterOrders(OrderFilter filter, Pageable pageable) {
+        Specification<Order> spec = OrderSpecifications.fromFilter(filter);
+
+        // Operators solo ven sus órdenes asignadas, independientemente del filtro
+        if (currentUser.isOperator()) {
+            spec = spec.and(OrderSpecifications.assignedTo(currentUser.getId()));
+        }
+
+        Page<Order> page = orderRepository.findAll(spec, toStablePageRequest(pageable));
+        return new PageResponse<>(page.map(orderMapper::toResponse));
+    }
+
+    @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long id) {
-        Order order = orderRepository.findById(id)
+        Order order = orderRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new RuntimeException("Orden no encontrada"));
 
-        User currentUser = getCurrentUser();
         // Operators solo pueden ver sus propias órdenes
-        if (currentUser.getRole() == User.Role.OPERATOR &&
+        if (currentUser.isOperator() &&
                 !order.getAssignedTo().getId().equals(currentUser.getId())) {
             throw new RuntimeException("No tienes permiso para ver esta orden");
         }
@@ -106,19 +221,53 @@ public class OrderService {
         return mapToResponseWithLogs(order);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse.StatusLogDTO> getOrderHistory(Long id, String cursor, Integer limit) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Orden no encontrada"));
+
+        // Operators solo pueden ver sus propias órdenes
+        if (currentUser.isOperator() &&
+                (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(currentUser.getId()))) {
+            throw new RuntimeException("No tienes permiso para ver esta orden");
+        }
+
+        int pageLimit = resolvePageLimit(limit);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<StatusLog> logs;
+        if (cursor == null || cursor.isEmpty()) {
+            logs = statusLogRepository.findByOrderIdOrderByCreatedAtDescIdDesc(id, pageable);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            logs = statusLogRepository.findPageByOrderIdAfter(id, after.getTimestamp(), after.getId(), pageable);
+        }
+
+        boolean hasMore = logs.size() > pageLimit;
+        List<StatusLog> page = hasMore ? logs.subList(0, pageLimit) : logs;
+        String nextCursor = null;
+        if (hasMore) {
+            StatusLog last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<OrderResponse.StatusLogDTO> items = page.stream().map(this::toStatusLogDTO).collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, hasMore, pageLimit);
+    }
+
     @Transactional
     public OrderResponse updateOrderStatus(Long id, StatusChangeRequest request) {
-        Order order = orderRepository.findById(id)
+        orderRepository.lockByIdIn(List.of(id));
+        Order order = orderRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new RuntimeException("Orden no encontrada"));
 
-        User currentUser = getCurrentUser();
 
         // Operators solo pueden actualizar sus propias órdenes
-        if (currentUser.getRole() == User.Role.OPERATOR &&
+        if (currentUser.isOperator() &&
                 !order.getAssignedTo().getId().equals(currentUser.getId())) {
             throw new RuntimeException("No tienes permiso para actualizar esta orden");
         }
 
+        OrderDailyStatKey previousKey = OrderDailyStatKey.of(order);
         Order.Status previousStatus = order.getStatus();
         Order.Status newStatus = Order.Status.valueOf(request.getNewStatus());
 
@@ -128,12 +277,14 @@ public class OrderService {
         log.setPreviousStatus(previousStatus);
         log.setNewStatus(newStatus);
         log.setComment(request.getComment());
-        log.setChangedBy(currentUser);
+        log.setChangedBy(userRepository.getReferenceById(currentUser.getId()));
 
         statusLogRepository.save(log);
 
-        // Actualizar estado de la orden
+        // Actualizar estado de la orden. updatedAt se marca aunque el estado no cambie,
+        // porque el nuevo log también modifica la respuesta (ETag, sincronización)
         order.setStatus(newStatus);
+        order.setUpdatedAt(LocalDateTime.now());
 
         // Si el nuevo estado es IN_PROGRESS y se proporciona una máquina, guardarla
         if (newStatus == Order.Status.IN_PROGRESS && request.getMachine() != null && !request.getMachine().isEmpty()) {
@@ -141,45 +292,130 @@ public class OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
+        orderStatsService.recordChanged(previousKey, savedOrder);
+
+        OrderResponse response = mapToResponseWithLogs(savedOrder);
+        publishChange(OrderChangedEvent.Type.STATUS_CHANGED, savedOrder, null, response);
+        return response;
+    }
+
+    /**
+     * Cambio de estado de varias órdenes en una sola transacción: una consulta para cargarlas,
+     * un lote JDBC para los logs (saveAll) y un único UPDATE. Las órdenes inexistentes o sin permiso se
+     * informan por elemento y no impiden el cambio de las demás.
+     */
+    @Transactional
+    public BulkStatusChangeResponse bulkUpdateOrderStatus(BulkStatusChangeRequest request) {
+        Order.Status newStatus = Order.Status.valueOf(request.getNewStatus());
+        Set<Long> requestedIds = new LinkedHashSet<>(request.getOrderIds());
+
+        orderRepository.lockByIdIn(requestedIds);
+        Map<Long, Order> found = orderRepository.findByIdIn(requestedIds).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+
+        // Resultado por id; la respuesta sigue el orden de la petición
+        Map<Long, BulkStatusChangeResponse.ItemResultDTO> outcomes = new HashMap<>();
+        List<Order> allowed = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Order order = found.get(id);
+            if (order == null) {
+                outcomes.put(id, BulkStatusChangeResponse.ItemResultDTO.failed(id, "Orden no encontrada"));
+            } else if (currentUser.isOperator() &&
+                    (order.getAssignedTo() == null || !order.getAssignedTo().getId().equals(currentUser.getId()))) {
+                outcomes.put(id, BulkStatusChangeResponse.ItemResultDTO.failed(id, "No tienes permiso para actualizar esta orden"));
+            } else {
+                allowed.add(order);
+            }
+        }
+        if (allowed.isEmpty()) {
+            return toBulkResponse(requestedIds, outcomes);
+        }
+
+        // Ids por secuencia + hibernate.jdbc.batch_size: los logs se insertan en lotes JDBC
+        User changedBy = userRepository.getReferenceById(currentUser.getId());
+        List<StatusLog> logs = new ArrayList<>();
+        for (Order order : allowed) {
+            StatusLog log = new StatusLog();
+            log.setOrder(order);
+            log.setPreviousStatus(order.getStatus());
+            log.setNewStatus(newStatus);
+            log.setComment(request.getComment());
+            log.setChangedBy(changedBy);
+            logs.add(log);
+        }
+        statusLogRepository.saveAll(logs);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> allowedIds = allowed.stream().map(Order::getId).collect(Collectors.toList());
+        orderRepository.updateStatusByIdIn(allowedIds, newStatus, now);
+
+        // Las entidades quedan desacopladas tras el UPDATE masivo: se actualizan en memoria
+        // solo para calcular el rollup y construir las respuestas
+        Map<OrderDailyStatKey, Long> deltas = new HashMap<>();
+        for (Order order : allowed) {
+            deltas.merge(OrderDailyStatKey.of(order), -1L, Long::sum);
+            order.setStatus(newStatus);
+            order.setUpdatedAt(now);
+            deltas.merge(OrderDailyStatKey.of(order), 1L, Long::sum);
+
+            OrderResponse response = orderMapper.toResponse(order);
+            publishChange(OrderChangedEvent.Type.STATUS_CHANGED, order, null, response);
+            outcomes.put(order.getId(), BulkStatusChangeResponse.ItemResultDTO.ok(response));
+        }
+        orderStatsService.recordDeltas(deltas);
+
+        return toBulkResponse(requestedIds, outcomes);
+    }
 
-        return mapToResponseWithLogs(savedOrder);
+    private BulkStatusChangeResponse toBulkResponse(Set<Long> requestedIds,
+                                                    Map<Long, BulkStatusChangeResponse.ItemResultDTO> outcomes) {
+        List<BulkStatusChangeResponse.ItemResultDTO> results = new ArrayList<>(requestedIds.size());
+        for (Long id : requestedIds) {
+            results.add(outcomes.get(id));
+        }
+        return new BulkStatusChangeResponse(results);
     }
 
     @Transactional
     public OrderResponse updateOrder(Long id, OrderRequest request) {
-        Order order = orderRepository.findById(id)
+        orderRepository.lockByIdIn(List.of(id));
+        Order order = orderRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new RuntimeException("Orden no encontrada"));
 
-        User currentUser = getCurrentUser();
 
         // Solo Admin y Manager pueden editar órdenes
         if (currentUser.getRole() != User.Role.ADMIN && currentUser.getRole() != User.Role.MANAGER) {
             throw new RuntimeException("Solo los administradores y managers pueden editar órdenes");
         }
 
-        User assignedUser = userRepository.findById(request.getAssignedToId())
+        UserRef assignedUser = referenceDataService.findUser(request.getAssignedToId())
                 .orElseThrow(() -> new RuntimeException("Usuario asignado no encontrado"));
 
+        OrderDailyStatKey previousKey = OrderDailyStatKey.of(order);
+        Long previousAssigneeId = order.getAssignedTo() != null ? order.getAssignedTo().getId() : null;
         order.setProduct(request.getProduct());
         order.setDescription(request.getDescription());
         order.setPriority(Order.Priority.valueOf(request.getPriority()));
-        order.setAssignedTo(assignedUser);
+        order.setAssignedTo(userRepository.getReferenceById(assignedUser.getId()));
         order.setDeadline(request.getDeadline());
 
         // Update customer if provided
+        CustomerRef customer = null;
         if (request.getCustomerId() != null) {
-            Customer customer = customerRepository.findById(request.getCustomerId())
+            customer = referenceDataService.findCustomer(request.getCustomerId())
                     .orElseThrow(() -> new RuntimeException("Cliente no encontrado"));
-            order.setCustomer(customer);
+            order.setCustomer(customerRepository.getReferenceById(customer.getId()));
         } else {
             order.setCustomer(null);
         }
 
         // Update material if provided
+        MaterialRef material = null;
         if (request.getMaterialId() != null) {
-            Material material = materialRepository.findById(request.getMaterialId())
+            material = referenceDataService.findMaterial(request.getMaterialId())
                     .orElseThrow(() -> new RuntimeException("Material no encontrado"));
-            order.setMaterial(material);
+            order.setMaterial(materialRepository.getReferenceById(material.getId()));
         } else {
             order.setMaterial(null);
         }
@@ -188,116 +424,125 @@ public class OrderService {
         order.setQuantity(request.getQuantity());
 
         Order savedOrder = orderRepository.save(order);
-        return mapToResponse(savedOrder);
+        orderStatsService.recordChanged(previousKey, savedOrder);
+        orderSyncService.recordReassigned(savedOrder, previousAssigneeId);
+        // createdBy no cambia y ya viene cargado (Order.GRAPH_DETAILS)
+        OrderResponse response = orderMapper.toResponse(savedOrder, assignedUser,
+                UserRef.of(savedOrder.getCreatedBy()), customer, material);
+        publishChange(OrderChangedEvent.Type.UPDATED, savedOrder, previousAssigneeId, response);
+        return response;
     }
 
     @Transactional
     public void deleteOrder(Long id) {
-        User currentUser = getCurrentUser();
 
         // Solo Admin puede eliminar órdenes
         if (currentUser.getRole() != User.Role.ADMIN) {
             throw new RuntimeException("Solo los administradores pueden eliminar órdenes");
         }
 
-        orderRepository.deleteById(id);
+        orderRepository.lockByIdIn(List.of(id)).forEach(order -> {
+            orderStatsService.recordDeleted(order);
+            orderSyncService.recordDeleted(order);
+            publishChange(OrderChangedEvent.Type.DELETED, order, null, null);
+            orderRepository.delete(order);
+        });
     }
 
+    @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByStatus(String status) {
-        User currentUser = getCurrentUser();
         Order.Status orderStatus = Order.Status.valueOf(status);
-
-        List<Order> orders = orderRepository.findByStatus(orderStatus);
+        List<Order> orders;
 
         // Filtrar por usuario si es Operator
-        if (currentUser.getRole() == User.Role.OPERATOR) {
-            orders = orders.stream()
-                    .filter(order -> order.getAssignedTo().getId().equals(currentUser.getId()))
-                    .collect(Collectors.toList());
+        if (currentUser.isOperator()) {
+            orders = orderRepository.findByStatusAndAssignedToId(orderStatus, currentUser.getId());
+        } else {
+            orders = orderRepository.findByStatus(orderStatus);
         }
 
-        return orders.stream().map(this::mapToResponse).collect(Collectors.toList());
+        return orders.stream().map(orderMapper::toResponse).collect(Collectors.toList());
     }
 
-    private User getCurrentUser() {
-        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext()
-                .getAuthentication().getPrincipal();
-        return userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+    private int resolvePageLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageLimit;
+        }
+        return Math.min(limit, maxPageLimit);
     }
 
-    private OrderResponse mapToResponse(Order order) {
-        OrderResponse response = new OrderResponse();
-        response.setId(order.getId());
-        response.setProduct(order.getProduct());
-        response.setDescription(order.getDescription());
-        response.setPriority(order.getPriority().name());
-        response.setStatus(order.getStatus().name());
-        response.setDeadline(order.getDeadline());
-        response.setMachine(order.getMachine());
-        response.setCreatedAt(order.getCreatedAt());
-        response.setUpdatedAt(order.getUpdatedAt());
-
-        if (order.getAssignedTo() != null) {
-            response.setAssignedTo(new OrderResponse.UserBasicDTO(
-                    order.getAssignedTo().getId(),
-                    order.getAssignedTo().getName(),
-                    order.getAssignedTo().getEmail()
-            ));
+    private Pageable toStablePageRequest(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new RuntimeException("Campo de ordenación no permitido: " + order.getProperty());
+            }
         }
 
-        if (order.getCreatedBy() != null) {
-            response.setCreatedBy(new OrderResponse.UserBasicDTO(
-                    order.getCreatedBy().getId(),
-                    order.getCreatedBy().getName(),
-                    order.getCreatedBy().getEmail()
-            ));
+        // El id como desempate mantiene estable el orden entre páginas
+        Sort requested = pageable.getSort();
+        Sort sort;
+        if (requested.isUnsorted()) {
+            sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+        } else if (requested.getOrderFor("id") != null) {
+            sort = requested;
+        } else {
+            sort = requested.and(Sort.by(Sort.Direction.DESC, "id"));
         }
 
-        if (order.getCustomer() != null) {
-            response.setCustomer(new OrderResponse.CustomerBasicDTO(
-                    order.getCustomer().getId(),
-                    order.getCustomer().getName(),
-                    order.getCustomer().getCompany()
-            ));
-        }
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), maxPageLimit), sort);
+    }
 
-        if (order.getMaterial() != null) {
-            response.setMaterial(new OrderResponse.MaterialBasicDTO(
-                    order.getMaterial().getId(),
-                    order.getMaterial().getName(),
-                    order.getMaterial().getUnit()
-            ));
+    private CursorPage<OrderResponse> toCursorPage(List<Order> orders, int pageLimit) {
+        boolean hasMore = orders.size() > pageLimit;
+        List<Order> page = hasMore ? orders.subList(0, pageLimit) : orders;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Order last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
         }
 
-        response.setQuantity(order.getQuantity());
+        List<OrderResponse> items = page.stream().map(orderMapper::toResponse).collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, hasMore, pageLimit);
+    }
 
-        return response;
+    // Se entrega a los clientes SSE solo si la transacción se confirma (ver OrderEventBroadcaster)
+    private void publishChange(OrderChangedEvent.Type type, Order order, Long previousAssigneeId, OrderResponse response) {
+        Long assigneeId = order.getAssignedTo() != null ? order.getAssignedTo().getId() : null;
+        eventPublisher.publishEvent(new OrderChangedEvent(type, order.getId(), assigneeId, previousAssigneeId, response));
     }
 
+    // Solo los últimos statusLogLimit cambios; hasMoreStatusLogs indica si hay más
     private OrderResponse mapToResponseWithLogs(Order order) {
-        OrderResponse response = mapToResponse(order);
-
-        List<StatusLog> logs = statusLogRepository.findByOrderIdOrderByCreatedAtDesc(order.getId());
-        response.setStatusLogs(logs.stream().map(log -> {
-            OrderResponse.StatusLogDTO logDTO = new OrderResponse.StatusLogDTO();
-            logDTO.setId(log.getId());
-            logDTO.setPreviousStatus(log.getPreviousStatus().name());
-            logDTO.setNewStatus(log.getNewStatus().name());
-            logDTO.setComment(log.getComment());
-            logDTO.setCreatedAt(log.getCreatedAt());
-
-            if (log.getChangedBy() != null) {
-                logDTO.setChangedBy(new OrderResponse.UserBasicDTO(
-                        log.getChangedBy().getId(),
-                        log.getChangedBy().getName(),
-                        log.getChangedBy().getEmail()
-                ));
-            }
+        OrderResponse response = orderMapper.toResponse(order);
 
-            return logDTO;
-        }).collect(Collectors.toList()));
+        List<StatusLog> logs = statusLogRepository.findByOrderIdOrderByCreatedAtDescIdDesc(
+                order.getId(), PageRequest.of(0, statusLogLimit + 1));
+        boolean hasMore = logs.size() > statusLogLimit;
+        response.setStatusLogs((hasMore ? logs.subList(0, statusLogLimit) : logs).stream()
+                .map(this::toStatusLogDTO)
+                .collect(Collectors.toList()));
+        response.setHasMoreStatusLogs(hasMore);
 
         return response;
     }
+
+    private OrderResponse.StatusLogDTO toStatusLogDTO(StatusLog log) {
+        OrderResponse.StatusLogDTO logDTO = new OrderResponse.StatusLogDTO();
+        logDTO.setId(log.getId());
+        logDTO.setPreviousStatus(log.getPreviousStatus().name());
+        logDTO.setNewStatus(log.getNewStatus().name());
+        logDTO.setComment(log.getComment());
+        logDTO.setCreatedAt(log.getCreatedAt());
+
+        if (log.getChangedBy() != null) {
+            logDTO.setChangedBy(new OrderResponse.UserBasicDTO(
+                    log.getChangedBy().getId(),
+                    log.getChangedBy().getName(),
+                    log.getChangedBy().getEmail()
+            ));
+        }
+
+        return logDTO;
+    }
 }
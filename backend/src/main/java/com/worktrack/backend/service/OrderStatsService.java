@@ -0,0 +1,185 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.OrderDailyStatKey;
+import com.worktrack.backend.repository.OrderDailyStatRepository;
+import com.worktrack.backend.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantiene la tabla order_daily_stats. Los métodos record* se ejecutan dentro de la
+ * transacción de OrderService, de modo que el rollup nunca diverge de las órdenes.
+ */
+@Service
+public class OrderStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatsService.class);
+
+    private static final String KEY_COLUMNS = "stat_day, status, priority, assignee_id, customer_id, material_id";
+
+    // Orden de la clave primaria (los enums se guardan como texto). Todas las transacciones
+    // bloquean las filas en este orden, igual que el DELETE de rebuild, y no hay interbloqueos
+    private static final Comparator<OrderDailyStatKey> KEY_ORDER = Comparator
+            .comparing(OrderDailyStatKey::getDay)
+            .thenComparing(key -> key.getStatus().name())
+            .thenComparing(key -> key.getPriority().name())
+            .thenComparing(OrderDailyStatKey::getAssigneeId)
+            .thenComparing(OrderDailyStatKey::getCustomerId)
+            .thenComparing(OrderDailyStatKey::getMaterialId);
+
+    private static final String UPSERT_POSTGRES =
+            "INSERT INTO order_daily_stats (" + KEY_COLUMNS + ", order_count) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (" + KEY_COLUMNS + ") " +
+            "DO UPDATE SET order_count = order_daily_stats.order_count + EXCLUDED.order_count";
+
+    private static final String UPDATE =
+            "UPDATE order_daily_stats SET order_count = order_count + ? " +
+            "WHERE stat_day = ? AND status = ? AND priority = ? AND assignee_id = ? AND customer_id = ? AND material_id = ?";
+
+    private static final String INSERT =
+            "INSERT INTO order_daily_stats (" + KEY_COLUMNS + ", order_count) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String REBUILD =
+            "INSERT INTO order_daily_stats (" + KEY_COLUMNS + ", order_count) " +
+            "SELECT CAST(created_at AS DATE), status, priority, " +
+            "COALESCE(assigned_to_id, 0), COALESCE(customer_id, 0), COALESCE(material_id, 0), COUNT(*) " +
+            "FROM orders " +
+            "GROUP BY CAST(created_at AS DATE), status, priority, " +
+            "COALESCE(assigned_to_id, 0), COALESCE(customer_id, 0), COALESCE(material_id, 0)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderDailyStatRepository orderDailyStatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private boolean postgres;
+    private TransactionTemplate rebuildTransaction;
+
+    @PostConstruct
+    public void init() {
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        rebuildTransaction = new TransactionTemplate(transactionManager);
+        if (!postgres) {
+            // H2 no tiene LOCK TABLE: con escrituras concurrentes la reconstrucción falla y se
+            // deshace (CannotAcquireLockException) en lugar de mezclarse con sus deltas
+            rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Order order) {
+        apply(OrderDailyStatKey.of(order), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanged(OrderDailyStatKey before, Order after) {
+        OrderDailyStatKey current = OrderDailyStatKey.of(after);
+        if (!before.equals(current)) {
+            Map<OrderDailyStatKey, Long> deltas = new TreeMap<>(KEY_ORDER);
+            deltas.put(before, -1L);
+            deltas.put(current, 1L);
+            deltas.forEach(this::apply);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Order order) {
+        apply(OrderDailyStatKey.of(order), -1);
+    }
+
+    /**
+     * Aplica deltas ya agregados por clave (operaciones masivas): una sentencia por clave
+     * distinta en lugar de dos por orden.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeltas(Map<OrderDailyStatKey, Long> deltas) {
+        Map<OrderDailyStatKey, Long> sorted = new TreeMap<>(KEY_ORDER);
+        sorted.putAll(deltas);
+        sorted.forEach((key, delta) -> {
+            if (delta != 0) {
+                apply(key, delta);
+            }
+        });
+    }
+
+    /**
+     * Recalcula el rollup completo a partir de la tabla orders.
+     */
+    public int rebuild() {
+        return rebuildTransaction.execute(status -> {
+            if (postgres) {
+                // Los deltas concurrentes esperan a que termine; el INSERT ... SELECT ya ve
+                // todas las órdenes confirmadas antes del bloqueo
+                jdbcTemplate.execute("LOCK TABLE order_daily_stats IN EXCLUSIVE MODE");
+            }
+            jdbcTemplate.update("DELETE FROM order_daily_stats");
+            int rows = jdbcTemplate.update(REBUILD);
+            logger.info("Rollup order_daily_stats reconstruido: {} filas", rows);
+            return rows;
+        });
+    }
+
+    /**
+     * Primer arranque o datos cargados sin pasar por OrderService (p. ej. los datos de prueba).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (orderDailyStatRepository.count() == 0 && orderRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private void apply(OrderDailyStatKey key, long delta) {
+        if (postgres) {
+            jdbcTemplate.update(UPSERT_POSTGRES,
+                    key.getDay(), key.getStatus().name(), key.getPriority().name(),
+                    key.getAssigneeId(), key.getCustomerId(), key.getMaterialId(), delta);
+            return;
+        }
+
+        if (update(key, delta) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT,
+                    key.getDay(), key.getStatus().name(), key.getPriority().name(),
+                    key.getAssigneeId(), key.getCustomerId(), key.getMaterialId(), delta);
+        } catch (DuplicateKeyException e) {
+            // Otra transacción insertó la misma clave entre el UPDATE y el INSERT. En H2 el
+            // error no aborta la transacción, así que basta con repetir el UPDATE
+            update(key, delta);
+        }
+    }
+
+    private int update(OrderDailyStatKey key, long delta) {
+        return jdbcTemplate.update(UPDATE, delta,
+                key.getDay(), key.getStatus().name(), key.getPriority().name(),
+                key.getAssigneeId(), key.getCustomerId(), key.getMaterialId());
+    }
+}
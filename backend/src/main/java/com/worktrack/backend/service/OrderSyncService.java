@@ -0,0 +1,185 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderChangesResponse;
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.entity.OrderTombstone;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.OrderTombstoneRepository;
+import com.worktrack.backend.security.CurrentUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronización incremental de órdenes (/api/orders/changes).
+ *
+ * El token es la última posición (updatedAt, id) entregada. Como una transacción puede
+ * confirmar una fila con un updatedAt anterior al de otra ya visible, ninguna página
+ * llega más allá del horizonte (ahora - safetyWindow) y el token nunca lo supera: las
+ * filas de esa ventana se entregan en la siguiente llamada.
+ *
+ * El token lleva además desde cuándo conoce el cliente las bajas (tombstones). Los
+ * tombstones se purgan pasada la retención; un token más antiguo recibe resyncRequired
+ * para que el cliente no se quede con órdenes que ya no existen.
+ */
+@Service
+public class OrderSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderSyncService.class);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTombstoneRepository orderTombstoneRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Value("${orders.sync.page-size:500}")
+    private int pageSize;
+
+    @Value("${orders.sync.safety-window-seconds:5}")
+    private long safetyWindowSeconds;
+
+    @Value("${orders.sync.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    @Transactional(readOnly = true)
+    public OrderChangesResponse getChanges(String since, Integer limit) {
+        boolean operator = currentUser.isOperator();
+        LocalDateTime now = LocalDateTime.now();
+
+        SyncToken from = since == null || since.isEmpty() ? null : SyncToken.decode(since);
+        if (from != null && from.removedSince.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return OrderChangesResponse.resyncRequired();
+        }
+        LocalDateTime fromTimestamp = from != null ? from.timestamp : EPOCH;
+        Long fromId = from != null ? from.id : 0L;
+        LocalDateTime horizon = now.minusSeconds(safetyWindowSeconds);
+
+        int pageLimit = limit == null || limit <= 0 ? pageSize : Math.min(limit, pageSize);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<Order> orders = operator
+                ? orderRepository.findChangedByAssignedToAfter(currentUser.getId(), fromTimestamp, fromId, horizon, pageable)
+                : orderRepository.findChangedAfter(fromTimestamp, fromId, horizon, pageable);
+
+        boolean hasMore = orders.size() > pageLimit;
+        if (hasMore) {
+            orders = orders.subList(0, pageLimit);
+        }
+
+        // En la primera sincronización el cliente no tiene nada que borrar. Una orden que se
+        // quitó y se devolvió al operador no es una baja, aunque tenga tombstone
+        List<Long> removed = from == null
+                ? List.of()
+                : operator
+                ? orderTombstoneRepository.findRemovedOrderIdsForAssigneeSince(currentUser.getId(), from.removedSince)
+                : orderTombstoneRepository.findOrderIdsByReasonSince(OrderTombstone.Reason.DELETED, from.removedSince);
+        if (!removed.isEmpty()) {
+            Set<Long> returned = orders.stream().map(Order::getId).collect(Collectors.toSet());
+            removed = removed.stream().filter(id -> !returned.contains(id)).collect(Collectors.toList());
+        }
+
+        SyncToken next;
+        if (hasMore) {
+            // La página no pasa del horizonte, así que la última fila tampoco
+            Order last = orders.get(orders.size() - 1);
+            next = new SyncToken(last.getUpdatedAt(), last.getId(), horizon);
+        } else {
+            // Se ha entregado todo hasta el horizonte, aunque nada haya cambiado desde el token
+            next = new SyncToken(horizon, 0L, horizon);
+        }
+
+        List<OrderResponse> items = orders.stream().map(orderMapper::toResponse).collect(Collectors.toList());
+        return new OrderChangesResponse(items, removed, next.encode(), hasMore);
+    }
+
+    // Los tombstones solo hacen falta mientras haya tokens válidos que los puedan pedir
+    @Scheduled(fixedDelayString = "${orders.sync.tombstone-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = orderTombstoneRepository.deleteRemovedBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            logger.info("Tombstones de sincronización purgados: {}", purged);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Order order) {
+        Long assigneeId = order.getAssignedTo() != null ? order.getAssignedTo().getId() : null;
+        orderTombstoneRepository.save(new OrderTombstone(order.getId(), assigneeId, OrderTombstone.Reason.DELETED));
+    }
+
+    // La orden desaparece del conjunto del operador anterior aunque siga existiendo
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReassigned(Order order, Long previousAssigneeId) {
+        Long currentAssigneeId = order.getAssignedTo() != null ? order.getAssignedTo().getId() : null;
+        if (previousAssigneeId != null && !Objects.equals(previousAssigneeId, currentAssigneeId)) {
+            orderTombstoneRepository.save(
+                    new OrderTombstone(order.getId(), previousAssigneeId, OrderTombstone.Reason.REASSIGNED));
+        }
+    }
+
+    /**
+     * Token opaco de sincronización: posición (updatedAt, id) y desde cuándo se han
+     * entregado las bajas. Los tokens antiguos (solo posición) usan la posición para ambos.
+     */
+    private static final class SyncToken {
+
+        private final LocalDateTime timestamp;
+        private final Long id;
+        private final LocalDateTime removedSince;
+
+        private SyncToken(LocalDateTime timestamp, Long id, LocalDateTime removedSince) {
+            this.timestamp = timestamp;
+            this.id = id;
+            this.removedSince = removedSince;
+        }
+
+        static SyncToken decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|");
+                if (parts.length == 2) {
+                    LocalDateTime timestamp = LocalDateTime.parse(parts[0]);
+                    return new SyncToken(timestamp, Long.valueOf(parts[1]), timestamp);
+                }
+                if (parts.length == 3) {
+                    return new SyncToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), LocalDateTime.parse(parts[2]));
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                // Se trata igual que un formato desconocido
+            }
+            throw new RuntimeException("Token de sincronización inválido");
+        }
+
+        String encode() {
+            String raw = timestamp + "|" + id + "|" + removedSince;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.config.CacheConfig;
+import com.worktrack.backend.entity.Customer;
+import com.worktrack.backend.entity.Material;
+import com.worktrack.backend.entity.User;
+import com.worktrack.backend.repository.CustomerRepository;
+import com.worktrack.backend.repository.MaterialRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Búsquedas por id de usuarios, clientes y materiales al crear o editar órdenes.
+ * Se cachean copias inmutables con los datos que muestra OrderResponse, nunca las
+ * entidades (objetos mutables compartidos entre peticiones; User lleva además el hash de
+ * la contraseña). La orden enlaza con getReferenceById y OrderMapper usa estas copias.
+ */
+@Service
+public class ReferenceDataService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Cacheable(cacheNames = CacheConfig.USER_REFS, unless = "#result == null")
+    public Optional<UserRef> findUser(Long id) {
+        return userRepository.findById(id).map(UserRef::of);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CUSTOMER_REFS, unless = "#result == null")
+    public Optional<CustomerRef> findCustomer(Long id) {
+        return customerRepository.findById(id).map(CustomerRef::of);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MATERIAL_REFS, unless = "#result == null")
+    public Optional<MaterialRef> findMaterial(Long id) {
+        return materialRepository.findById(id).map(MaterialRef::of);
+    }
+
+    public static final class UserRef {
+        private final Long id;
+        private final String name;
+        private final String email;
+
+        private UserRef(Long id, String name, String email) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+        }
+
+        public static UserRef of(User user) {
+            return new UserRef(user.getId(), user.getName(), user.getEmail());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    public static final class CustomerRef {
+        private final Long id;
+        private final String name;
+        private final String company;
+
+        private CustomerRef(Long id, String name, String company) {
+            this.id = id;
+            this.name = name;
+            this.company = company;
+        }
+
+        public static CustomerRef of(Customer customer) {
+            return new CustomerRef(customer.getId(), customer.getName(), customer.getCompany());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCompany() {
+            return company;
+        }
+    }
+
+    public static final class MaterialRef {
+        private final Long id;
+        private final String name;
+        private final String unit;
+
+        private MaterialRef(Long id, String name, String unit) {
+            this.id = id;
+            this.name = name;
+            this.unit = unit;
+        }
+
+        public static MaterialRef of(Material material) {
+            return new MaterialRef(material.getId(), material.getName(), material.getUnit());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.worktrack.backend.service;
 
+import com.worktrack.backend.config.CacheConfig;
 import com.worktrack.backend.dto.OrderResponse;
 import com.worktrack.backend.dto.UserRequest;
 import com.worktrack.backend.dto.UserResponse;
 import com.worktrack.backend.entity.User;
 import com.worktrack.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +26,7 @@ public class UserService {
     private PasswordEncoder passwordEncoder;
 
     // Existing methods used by OrderService - preserve these
+    @Cacheable(cacheNames = CacheConfig.OPERATORS, key = "'all'")
     public List<OrderResponse.UserBasicDTO> getAllOperators() {
         return userRepository.findByRole(User.Role.OPERATOR).stream()
                 .filter(User::getActive)
@@ -30,6 +34,7 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_USERS, key = "'all'")
     public List<OrderResponse.UserBasicDTO> getAllUsers() {
         return userRepository.findByActiveTrue().stream()
                 .map(user -> new OrderResponse.UserBasicDTO(user.getId(), user.getName(), user.getEmail()))
@@ -51,6 +56,7 @@ public class UserService {
         return new UserResponse(user);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.OPERATORS, CacheConfig.ACTIVE_USERS, CacheConfig.USER_REFS, CacheConfig.USER_STATUS}, allEntries = true)
     @Transactional
     public UserResponse createUser(UserRequest request) {
         // Check if email already exists
@@ -77,6 +83,7 @@ public class UserService {
         return new UserResponse(saved);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.OPERATORS, CacheConfig.ACTIVE_USERS, CacheConfig.USER_REFS, CacheConfig.USER_STATUS}, allEntries = true)
     @Transactional
     public UserResponse updateUser(Long id, UserRequest request) {
         User user = userRepository.findById(id)
@@ -109,6 +116,7 @@ public class UserService {
         return new UserResponse(updated);
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.OPERATORS, CacheConfig.ACTIVE_USERS, CacheConfig.USER_REFS, CacheConfig.USER_STATUS}, allEntries = true)
     @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
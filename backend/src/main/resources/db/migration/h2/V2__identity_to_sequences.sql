@@ -0,0 +1,24 @@
+-- Mirrors db/migration/postgresql/V2__identity_to_sequences.sql: ids move from
+-- IDENTITY to pooled sequences (allocationSize = 50). The dev database is always
+-- empty here, so the sequences start at 1.
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE customers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE materials_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE status_logs_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
+
+ALTER TABLE customers ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE customers ALTER COLUMN id SET DEFAULT NEXT VALUE FOR customers_seq;
+
+ALTER TABLE materials ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE materials ALTER COLUMN id SET DEFAULT NEXT VALUE FOR materials_seq;
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT NEXT VALUE FOR orders_seq;
+
+ALTER TABLE status_logs ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE status_logs ALTER COLUMN id SET DEFAULT NEXT VALUE FOR status_logs_seq;
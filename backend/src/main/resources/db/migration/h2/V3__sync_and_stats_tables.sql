@@ -0,0 +1,25 @@
+-- Mirrors db/migration/postgresql/V3__sync_and_stats_tables.sql
+
+CREATE SEQUENCE order_tombstones_seq START WITH 1 INCREMENT BY 50;
+
+-- Tombstones for incremental sync (OrderSyncService)
+CREATE TABLE order_tombstones (
+    id             BIGINT       NOT NULL DEFAULT NEXT VALUE FOR order_tombstones_seq,
+    order_id       BIGINT       NOT NULL,
+    assigned_to_id BIGINT,
+    reason         VARCHAR(20)  NOT NULL CHECK (reason IN ('DELETED', 'REASSIGNED')),
+    removed_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_order_tombstones PRIMARY KEY (id)
+);
+
+-- Daily dashboard rollup (OrderStatsService); 0 = no assignee/customer/material
+CREATE TABLE order_daily_stats (
+    stat_day    DATE        NOT NULL,
+    status      VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED')),
+    priority    VARCHAR(20) NOT NULL CHECK (priority IN ('HIGH', 'MEDIUM', 'LOW')),
+    assignee_id BIGINT      NOT NULL,
+    customer_id BIGINT      NOT NULL,
+    material_id BIGINT      NOT NULL,
+    order_count BIGINT      NOT NULL,
+    CONSTRAINT pk_order_daily_stats PRIMARY KEY (stat_day, status, priority, assignee_id, customer_id, material_id)
+);
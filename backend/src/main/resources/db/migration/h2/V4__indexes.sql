@@ -0,0 +1,21 @@
+-- Same index set as db/migration/postgresql/V4__indexes.sql. H2 has no partial
+-- indexes, so idx_orders_status_deadline covers every status here.
+
+CREATE INDEX idx_orders_created_at_id ON orders (created_at, id);
+CREATE INDEX idx_orders_assigned_created_at ON orders (assigned_to_id, created_at, id);
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at, id);
+CREATE INDEX idx_orders_assigned_status_created_at ON orders (assigned_to_id, status, created_at, id);
+CREATE INDEX idx_orders_updated_at_id ON orders (updated_at, id);
+CREATE INDEX idx_orders_assigned_updated_at ON orders (assigned_to_id, updated_at, id);
+CREATE INDEX idx_orders_status_deadline ON orders (status, deadline);
+CREATE INDEX idx_orders_deadline ON orders (deadline);
+CREATE INDEX idx_orders_customer ON orders (customer_id);
+CREATE INDEX idx_orders_material ON orders (material_id);
+CREATE INDEX idx_orders_created_by ON orders (created_by_id);
+
+CREATE INDEX idx_status_logs_order_created_at ON status_logs (order_id, created_at, id);
+CREATE INDEX idx_status_logs_changed_by ON status_logs (changed_by_id);
+CREATE INDEX idx_status_logs_created_at ON status_logs (created_at);
+
+CREATE INDEX idx_order_tombstones_removed_at ON order_tombstones (removed_at);
+CREATE INDEX idx_order_tombstones_assigned_removed_at ON order_tombstones (assigned_to_id, removed_at);
@@ -0,0 +1,76 @@
+-- WorkTrack baseline schema (PostgreSQL)
+-- The schema hibernate.ddl-auto=update generated before Flyway was introduced: five
+-- tables with serial ids. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and only run V2 onwards, so everything added
+-- after the baseline belongs in a later migration, never here.
+
+CREATE TABLE users (
+    id         BIGSERIAL    NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    role       VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'MANAGER', 'OPERATOR')),
+    active     BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE customers (
+    id         BIGSERIAL    NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    company    VARCHAR(150),
+    email      VARCHAR(100),
+    phone      VARCHAR(20),
+    address    VARCHAR(200),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_customers PRIMARY KEY (id)
+);
+
+CREATE TABLE materials (
+    id             BIGSERIAL    NOT NULL,
+    name           VARCHAR(100) NOT NULL,
+    description    TEXT,
+    unit           VARCHAR(50),
+    stock_quantity DOUBLE PRECISION,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT pk_materials PRIMARY KEY (id)
+);
+
+CREATE TABLE orders (
+    id             BIGSERIAL    NOT NULL,
+    product        VARCHAR(255) NOT NULL,
+    description    TEXT,
+    priority       VARCHAR(255) NOT NULL CHECK (priority IN ('HIGH', 'MEDIUM', 'LOW')),
+    status         VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED')),
+    assigned_to_id BIGINT,
+    created_by_id  BIGINT       NOT NULL,
+    customer_id    BIGINT,
+    material_id    BIGINT,
+    quantity       DOUBLE PRECISION,
+    deadline       DATE         NOT NULL,
+    machine        VARCHAR(255),
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id),
+    CONSTRAINT fk_orders_assigned_to FOREIGN KEY (assigned_to_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_created_by FOREIGN KEY (created_by_id) REFERENCES users (id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT fk_orders_material FOREIGN KEY (material_id) REFERENCES materials (id)
+);
+
+CREATE TABLE status_logs (
+    id              BIGSERIAL    NOT NULL,
+    order_id        BIGINT       NOT NULL,
+    previous_status VARCHAR(255) NOT NULL CHECK (previous_status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED')),
+    new_status      VARCHAR(255) NOT NULL CHECK (new_status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED')),
+    comment         TEXT,
+    changed_by_id   BIGINT       NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_status_logs PRIMARY KEY (id),
+    CONSTRAINT fk_status_logs_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_status_logs_changed_by FOREIGN KEY (changed_by_id) REFERENCES users (id)
+);
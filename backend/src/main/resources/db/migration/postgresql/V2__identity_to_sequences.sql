@@ -0,0 +1,25 @@
+-- Baseline ids are serial (<table>_id_seq, INCREMENT BY 1) or, on databases created by
+-- hand, IDENTITY columns. Hibernate now allocates ids from pooled sequences
+-- (<table>_seq, allocationSize = 50). Idempotent: databases that ran a ddl-auto=update
+-- build with the sequences already in place only get them moved past MAX(id).
+
+DO $$
+DECLARE
+    t TEXT;
+    max_id BIGINT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'customers', 'materials', 'orders', 'status_logs']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50 START WITH 1', t || '_seq');
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', t) INTO max_id;
+        -- The next nextval() returns max_id + 100, so the whole block Hibernate takes
+        -- from it is above the existing rows
+        PERFORM setval(t || '_seq', max_id + 50, true);
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', t || '_seq', t);
+        -- The serial sequence is no longer referenced by the column default
+        EXECUTE format('DROP SEQUENCE IF EXISTS %I', t || '_id_seq');
+    END LOOP;
+END $$;
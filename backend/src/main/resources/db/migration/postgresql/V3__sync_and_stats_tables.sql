@@ -0,0 +1,40 @@
+-- Tables added after the baseline: tombstones for incremental sync (OrderSyncService)
+-- and the daily dashboard rollup (OrderStatsService). IF NOT EXISTS because databases
+-- that ran a ddl-auto=update build may already have them; the rollup is filled on
+-- startup by OrderStatsService.rebuildIfEmpty.
+
+CREATE SEQUENCE IF NOT EXISTS order_tombstones_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS order_tombstones (
+    id             BIGINT       NOT NULL DEFAULT nextval('order_tombstones_seq'),
+    order_id       BIGINT       NOT NULL,
+    assigned_to_id BIGINT,
+    reason         VARCHAR(20)  NOT NULL CHECK (reason IN ('DELETED', 'REASSIGNED')),
+    removed_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_order_tombstones PRIMARY KEY (id)
+);
+
+-- A table created by ddl-auto=update may still have a serial or IDENTITY id
+DO $$
+DECLARE
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM order_tombstones;
+    PERFORM setval('order_tombstones_seq', max_id + 50, true);
+    ALTER TABLE order_tombstones ALTER COLUMN id DROP IDENTITY IF EXISTS;
+    ALTER TABLE order_tombstones ALTER COLUMN id SET DEFAULT nextval('order_tombstones_seq');
+    ALTER SEQUENCE order_tombstones_seq OWNED BY order_tombstones.id;
+    DROP SEQUENCE IF EXISTS order_tombstones_id_seq;
+END $$;
+
+-- 0 = no assignee/customer/material
+CREATE TABLE IF NOT EXISTS order_daily_stats (
+    stat_day    DATE        NOT NULL,
+    status      VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED')),
+    priority    VARCHAR(20) NOT NULL CHECK (priority IN ('HIGH', 'MEDIUM', 'LOW')),
+    assignee_id BIGINT      NOT NULL,
+    customer_id BIGINT      NOT NULL,
+    material_id BIGINT      NOT NULL,
+    order_count BIGINT      NOT NULL,
+    CONSTRAINT pk_order_daily_stats PRIMARY KEY (stat_day, status, priority, assignee_id, customer_id, material_id)
+);
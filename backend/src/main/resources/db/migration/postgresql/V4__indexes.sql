@@ -0,0 +1,31 @@
+-- Indexes for the OrderRepository / StatusLogRepository access paths. IF NOT EXISTS
+-- because databases that used ddl-auto=update may already have some of them.
+
+-- Keyset listings (createdAt DESC, id DESC): all, per operator, per status, per operator and status
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_assigned_created_at ON orders (assigned_to_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_assigned_status_created_at ON orders (assigned_to_id, status, created_at, id);
+
+-- Incremental sync and ETags (updatedAt, id)
+CREATE INDEX IF NOT EXISTS idx_orders_updated_at_id ON orders (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_assigned_updated_at ON orders (assigned_to_id, updated_at, id);
+
+-- Deadline filters only matter for open orders: delivered ones are most of the table
+DROP INDEX IF EXISTS idx_orders_status_deadline;
+CREATE INDEX idx_orders_status_deadline ON orders (status, deadline) WHERE status <> 'DELIVERED';
+CREATE INDEX IF NOT EXISTS idx_orders_deadline ON orders (deadline);
+
+-- Filters and foreign keys
+CREATE INDEX IF NOT EXISTS idx_orders_customer ON orders (customer_id);
+CREATE INDEX IF NOT EXISTS idx_orders_material ON orders (material_id);
+CREATE INDEX IF NOT EXISTS idx_orders_created_by ON orders (created_by_id);
+
+-- Status history of an order, newest first
+CREATE INDEX IF NOT EXISTS idx_status_logs_order_created_at ON status_logs (order_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_status_logs_changed_by ON status_logs (changed_by_id);
+CREATE INDEX IF NOT EXISTS idx_status_logs_created_at ON status_logs (created_at);
+
+-- Sync tombstones
+CREATE INDEX IF NOT EXISTS idx_order_tombstones_removed_at ON order_tombstones (removed_at);
+CREATE INDEX IF NOT EXISTS idx_order_tombstones_assigned_removed_at ON order_tombstones (assigned_to_id, removed_at);
@@ -0,0 +1,13 @@
+-- Full-text and trigram search (OrderSearchService, orders.search.mode=fulltext).
+-- 'simple' configuration: no stemming, product codes and Japanese text are indexed as-is.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(product, '') || ' ' || coalesce(description, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_orders_search_vector ON orders USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_orders_product_trgm ON orders USING GIN (product gin_trgm_ops);
+
+ALTER TABLE status_logs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(comment, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_status_logs_search_vector ON status_logs USING GIN (search_vector);
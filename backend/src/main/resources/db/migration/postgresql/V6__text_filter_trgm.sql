@@ -0,0 +1,9 @@
+-- Trigram indexes for the text filter of /api/orders/filter (OrderSpecifications.matchesText):
+-- lower(col) LIKE '%q%' cannot use a btree, but a GIN trigram index on the same expression
+-- serves it for patterns of 3+ characters. Needs pg_trgm (V5).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_orders_product_lower_trgm ON orders USING GIN (lower(product) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_description_lower_trgm ON orders USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_machine_lower_trgm ON orders USING GIN (lower(machine) gin_trgm_ops);
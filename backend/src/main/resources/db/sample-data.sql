@@ -8,39 +8,39 @@
 -- Password for all test users: "password123"
 -- BCrypt hash for "password123": $2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe
 
-INSERT INTO users (name, email, password, role, active, created_at, updated_at) VALUES
-('田中 ヒロシ', 'tanaka.hiroshi@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
-('鈴木 ユキ', 'suzuki.yuki@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
-('佐藤 タケシ', 'sato.takeshi@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
-('伊藤 アイコ', 'ito.aiko@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
-('中村 ケンジ', 'nakamura.kenji@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'MANAGER', true, NOW(), NOW())
+INSERT INTO users (id, name, email, password, role, active, created_at, updated_at) VALUES
+(nextval('users_seq'), '田中 ヒロシ', 'tanaka.hiroshi@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
+(nextval('users_seq'), '鈴木 ユキ', 'suzuki.yuki@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
+(nextval('users_seq'), '佐藤 タケシ', 'sato.takeshi@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
+(nextval('users_seq'), '伊藤 アイコ', 'ito.aiko@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'OPERATOR', true, NOW(), NOW()),
+(nextval('users_seq'), '中村 ケンジ', 'nakamura.kenji@worktrack.com', '$2a$10$3euPcmQFCiblsZeEu5s7p.z4txCMCBFZrRZxKmJnkJJBu/oWzXjZe', 'MANAGER', true, NOW(), NOW())
 ON CONFLICT (email) DO NOTHING;
 
 -- =============================================
 -- 2. INSERT CUSTOMERS (10 customers)
 -- =============================================
-INSERT INTO customers (name, company, email, phone, address, created_at, updated_at) VALUES
-('Toyota Motor Corporation', 'Toyota', 'orders@toyota.jp', '+81-3-3817-7111', '1 Toyota-cho, Toyota City, Aichi 471-8571, Japan', NOW(), NOW()),
-('Honda Motor Co.', 'Honda', 'procurement@honda.jp', '+81-3-3423-1111', '2-1-1 Minami-Aoyama, Minato-ku, Tokyo 107-8556, Japan', NOW(), NOW()),
-('Nissan Motor Co.', 'Nissan', 'suppliers@nissan.jp', '+81-45-523-5523', '1-1-1 Takashima, Nishi-ku, Yokohama, Kanagawa 220-8686, Japan', NOW(), NOW()),
-('Panasonic Corporation', 'Panasonic', 'parts@panasonic.jp', '+81-6-6908-1121', '1006 Oaza Kadoma, Kadoma-shi, Osaka 571-8501, Japan', NOW(), NOW()),
-('Sony Corporation', 'Sony', 'manufacturing@sony.jp', '+81-3-6748-2111', '1-7-1 Konan, Minato-ku, Tokyo 108-0075, Japan', NOW(), NOW()),
-('Mitsubishi Electric', 'Mitsubishi', 'orders@mitsubishi.jp', '+81-3-3218-2111', '2-7-3 Marunouchi, Chiyoda-ku, Tokyo 100-8310, Japan', NOW(), NOW()),
-('Canon Inc.', 'Canon', 'supply@canon.jp', '+81-3-3758-2111', '30-2 Shimomaruko 3-chome, Ohta-ku, Tokyo 146-8501, Japan', NOW(), NOW()),
-('Toshiba Corporation', 'Toshiba', 'procurement@toshiba.jp', '+81-3-3457-4511', '1-1-1 Shibaura, Minato-ku, Tokyo 105-8001, Japan', NOW(), NOW()),
-('Fuji Heavy Industries', 'Subaru', 'parts@subaru.jp', '+81-3-6447-8000', '1-20-8 Ebisu, Shibuya-ku, Tokyo 150-8554, Japan', NOW(), NOW()),
-('Yamaha Corporation', 'Yamaha', 'orders@yamaha.jp', '+81-53-460-2211', '10-1 Nakazawa-cho, Naka-ku, Hamamatsu, Shizuoka 430-8650, Japan', NOW(), NOW())
+INSERT INTO customers (id, name, company, email, phone, address, created_at, updated_at) VALUES
+(nextval('customers_seq'), 'Toyota Motor Corporation', 'Toyota', 'orders@toyota.jp', '+81-3-3817-7111', '1 Toyota-cho, Toyota City, Aichi 471-8571, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Honda Motor Co.', 'Honda', 'procurement@honda.jp', '+81-3-3423-1111', '2-1-1 Minami-Aoyama, Minato-ku, Tokyo 107-8556, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Nissan Motor Co.', 'Nissan', 'suppliers@nissan.jp', '+81-45-523-5523', '1-1-1 Takashima, Nishi-ku, Yokohama, Kanagawa 220-8686, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Panasonic Corporation', 'Panasonic', 'parts@panasonic.jp', '+81-6-6908-1121', '1006 Oaza Kadoma, Kadoma-shi, Osaka 571-8501, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Sony Corporation', 'Sony', 'manufacturing@sony.jp', '+81-3-6748-2111', '1-7-1 Konan, Minato-ku, Tokyo 108-0075, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Mitsubishi Electric', 'Mitsubishi', 'orders@mitsubishi.jp', '+81-3-3218-2111', '2-7-3 Marunouchi, Chiyoda-ku, Tokyo 100-8310, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Canon Inc.', 'Canon', 'supply@canon.jp', '+81-3-3758-2111', '30-2 Shimomaruko 3-chome, Ohta-ku, Tokyo 146-8501, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Toshiba Corporation', 'Toshiba', 'procurement@toshiba.jp', '+81-3-3457-4511', '1-1-1 Shibaura, Minato-ku, Tokyo 105-8001, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Fuji Heavy Industries', 'Subaru', 'parts@subaru.jp', '+81-3-6447-8000', '1-20-8 Ebisu, Shibuya-ku, Tokyo 150-8554, Japan', NOW(), NOW()),
+(nextval('customers_seq'), 'Yamaha Corporation', 'Yamaha', 'orders@yamaha.jp', '+81-53-460-2211', '10-1 Nakazawa-cho, Naka-ku, Hamamatsu, Shizuoka 430-8650, Japan', NOW(), NOW())
 ON CONFLICT DO NOTHING;
 
 -- =============================================
 -- 3. INSERT MATERIALS (5 materials)
 -- =============================================
-INSERT INTO materials (name, description, unit, stock_quantity, created_at, updated_at) VALUES
-('Steel Plate 304', 'Stainless steel plate 304 grade, corrosion resistant', 'kg', 5000.00, NOW(), NOW()),
-('Aluminum Alloy 6061', 'Aluminum alloy 6061-T6, lightweight and strong', 'kg', 3500.00, NOW(), NOW()),
-('Carbon Fiber Sheet', 'High-strength carbon fiber composite sheet', 'm²', 250.00, NOW(), NOW()),
-('Copper Wire 99.9%', 'Pure copper wire for electrical applications', 'kg', 1200.00, NOW(), NOW()),
-('Plastic Polymer ABS', 'ABS plastic polymer for injection molding', 'kg', 4500.00, NOW(), NOW())
+INSERT INTO materials (id, name, description, unit, stock_quantity, created_at, updated_at) VALUES
+(nextval('materials_seq'), 'Steel Plate 304', 'Stainless steel plate 304 grade, corrosion resistant', 'kg', 5000.00, NOW(), NOW()),
+(nextval('materials_seq'), 'Aluminum Alloy 6061', 'Aluminum alloy 6061-T6, lightweight and strong', 'kg', 3500.00, NOW(), NOW()),
+(nextval('materials_seq'), 'Carbon Fiber Sheet', 'High-strength carbon fiber composite sheet', 'm²', 250.00, NOW(), NOW()),
+(nextval('materials_seq'), 'Copper Wire 99.9%', 'Pure copper wire for electrical applications', 'kg', 1200.00, NOW(), NOW()),
+(nextval('materials_seq'), 'Plastic Polymer ABS', 'ABS plastic polymer for injection molding', 'kg', 4500.00, NOW(), NOW())
 ON CONFLICT DO NOTHING;
 
 -- =============================================
@@ -133,6 +133,7 @@ BEGIN
 
         -- Insert order
         INSERT INTO orders (
+            id,
             product,
             description,
             priority,
@@ -147,6 +148,7 @@ BEGIN
             created_at,
             updated_at
         ) VALUES (
+            nextval('orders_seq'),
             random_product,
             'Production order for ' || random_product || ' - Batch #' || LPAD(i::TEXT, 4, '0'),
             random_priority,
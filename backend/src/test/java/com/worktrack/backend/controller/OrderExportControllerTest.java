@@ -0,0 +1,104 @@
+package com.worktrack.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+class OrderExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @WithUserDetails("admin@worktrack.com")
+    void adminExportsEveryOrderOnePerLine() throws Exception {
+        List<JsonNode> lines = export();
+
+        assertThat(lines).extracting(line -> line.get("id").asLong())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(orderRepository.findAll().stream()
+                        .map(Order::getId).collect(Collectors.toList()));
+        assertThat(lines).allSatisfy(line -> {
+            assertThat(line.get("product").asText()).isNotEmpty();
+            assertThat(line.get("status").asText()).isNotEmpty();
+        });
+    }
+
+    @Test
+    @WithUserDetails("operator1@worktrack.com")
+    void operatorOnlyExportsAssignedOrders() throws Exception {
+        Long operatorId = userRepository.findByEmail("operator1@worktrack.com").orElseThrow().getId();
+
+        List<JsonNode> lines = export();
+
+        assertThat(lines).extracting(line -> line.get("id").asLong())
+                .containsExactlyInAnyOrderElementsOf(orderRepository.findAll().stream()
+                        .filter(order -> order.getAssignedTo() != null
+                                && order.getAssignedTo().getId().equals(operatorId))
+                        .map(Order::getId).collect(Collectors.toList()));
+        assertThat(lines).isNotEmpty().allSatisfy(line ->
+                assertThat(line.get("assignedTo").get("id").asLong()).isEqualTo(operatorId));
+    }
+
+    @Test
+    void exportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is4xxClientError());
+    }
+
+    // El cuerpo se escribe en el executor async de MVC: hay que esperar al dispatch
+    private List<JsonNode> export() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.ndjson\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,135 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderImportResponse;
+import com.worktrack.backend.dto.OrderImportResponse.RowErrorDTO;
+import com.worktrack.backend.entity.Order;
+import com.worktrack.backend.repository.OrderRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Lotes de 2 filas: los errores quedan repartidos entre varios lotes
+@SpringBootTest(properties = "orders.import.batch-size=2")
+@ActiveProfiles({"dev", "test"})
+class OrderImportServiceTest {
+
+    @Autowired
+    private OrderImportService orderImportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    private Long operatorId;
+
+    @BeforeEach
+    void login() {
+        TestAuth.loginAs(userDetailsService, "admin@worktrack.com");
+        operatorId = userRepository.findByEmail("operator1@worktrack.com").orElseThrow().getId();
+    }
+
+    @AfterEach
+    void logout() {
+        TestAuth.logout();
+    }
+
+    @Test
+    void importsValidRowsAndReportsTheRestByRowNumber() {
+        String code = code();
+        String csv = String.join("\n",
+                "product,priority,assignedToId,deadline,quantity",
+                code + " ok iso,HIGH," + operatorId + ",2030-03-31,5",
+                ",LOW," + operatorId + ",2030-03-31,",
+                code + " bad priority,URGENT," + operatorId + ",2030-03-31,",
+                code + " unknown user,LOW,999999,2030-03-31,",
+                "",
+                code + " " + "x".repeat(300) + ",LOW," + operatorId + ",2030-03-31,",
+                code + " bad date,LOW," + operatorId + ",31-03-2030,",
+                "\"" + code + " ok, slash\",low," + operatorId + ",2030/4/1,\"1,5\"");
+
+        OrderImportResponse response = orderImportService.importCsv(csv(csv));
+
+        assertThat(response.getTotalRows()).isEqualTo(7);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.isErrorsTruncated()).isFalse();
+        // La cabecera es la fila 1 y la línea en blanco conserva su número
+        assertThat(response.getErrors())
+                .extracting(RowErrorDTO::getRow, RowErrorDTO::getMessage)
+                .containsExactly(
+                        tuple(3, "Producto es requerido"),
+                        tuple(4, "Prioridad inválida: URGENT"),
+                        tuple(5, "Usuario asignado no encontrado"),
+                        tuple(7, "Producto no puede superar 255 caracteres"),
+                        tuple(8, "Fecha límite inválida: 31-03-2030"));
+
+        List<Order> imported = importedOrders(code);
+        assertThat(imported)
+                .extracting(Order::getProduct, Order::getPriority, Order::getStatus, Order::getDeadline, Order::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(code + " ok iso", Order.Priority.HIGH, Order.Status.PENDING, LocalDate.of(2030, 3, 31), 5.0),
+                        tuple(code + " ok, slash", Order.Priority.LOW, Order.Status.PENDING, LocalDate.of(2030, 4, 1), 1.5));
+        assertThat(imported).allSatisfy(order -> assertThat(order.getAssignedTo().getId()).isEqualTo(operatorId));
+    }
+
+    @Test
+    void columnsAreMatchedByNameInAnyOrder() {
+        String code = code();
+        String csv = "Deadline,AssignedToId,Priority,Product\n"
+                + "2030-05-01," + operatorId + ",MEDIUM," + code + " reordered\n";
+
+        OrderImportResponse response = orderImportService.importCsv(csv(csv));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).isEmpty();
+        assertThat(importedOrders(code)).extracting(Order::getProduct).containsExactly(code + " reordered");
+    }
+
+    @Test
+    void rejectsFileWithoutRequiredColumns() {
+        assertThatThrownBy(() -> orderImportService.importCsv(csv("product,priority\nWidget,LOW\n")))
+                .hasMessage("Faltan columnas obligatorias: assignedToId, deadline");
+    }
+
+    @Test
+    void rejectsEmptyFile() {
+        assertThatThrownBy(() -> orderImportService.importCsv(csv("")))
+                .hasMessage("El fichero está vacío");
+    }
+
+    private List<Order> importedOrders(String code) {
+        return orderRepository.findAll().stream()
+                .filter(order -> order.getProduct().startsWith(code))
+                .collect(Collectors.toList());
+    }
+
+    // Prefijo único por test: la base de datos H2 en memoria se comparte entre clases de test
+    private static String code() {
+        return "Imp" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "orders.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
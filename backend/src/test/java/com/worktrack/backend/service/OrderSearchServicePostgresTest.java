@@ -0,0 +1,97 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderRequest;
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.dto.PageResponse;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Búsqueda de texto completo (tsvector + pg_trgm) contra un PostgreSQL real: la consulta,
+ * el operador <% y el tipado de parámetros solo se pueden comprobar ahí. Se ejecuta si
+ * WORKTRACK_TEST_POSTGRES_URL apunta a una base de datos de pruebas (se migra con Flyway).
+ */
+@SpringBootTest
+@ActiveProfiles("prod")
+@EnabledIfEnvironmentVariable(named = "WORKTRACK_TEST_POSTGRES_URL", matches = ".+")
+class OrderSearchServicePostgresTest {
+
+    @Autowired
+    private OrderSearchService orderSearchService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("WORKTRACK_TEST_POSTGRES_URL"));
+        registry.add("spring.datasource.username", () -> env("WORKTRACK_TEST_POSTGRES_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> env("WORKTRACK_TEST_POSTGRES_PASSWORD", ""));
+    }
+
+    @Test
+    @WithUserDetails("admin@worktrack.com")
+    void findsMisspelledProductAndReportsTotalPastTheLastPage() {
+        // Código único por ejecución: la base de datos de pruebas se reutiliza
+        String code = "Zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(order(code + " Bracket", "operator1@worktrack.com"));
+        }
+
+        // Trigramas: falta una letra del código
+        String misspelled = code.substring(0, code.length() - 1);
+        PageResponse<OrderResponse> first = orderSearchService.search(misspelled, 0, 2);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(first.getItems()).hasSize(2)
+                .allSatisfy(order -> assertThat(order.getProduct()).startsWith(code));
+
+        // tsvector: palabra completa
+        assertThat(orderSearchService.search(code, 1, 2).getItems()).hasSize(1);
+
+        PageResponse<OrderResponse> pastEnd = orderSearchService.search(misspelled, 5, 2);
+        assertThat(pastEnd.getItems()).isEmpty();
+        assertThat(pastEnd.getTotalElements()).isEqualTo(3);
+        assertThat(pastEnd.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @WithUserDetails("operator1@worktrack.com")
+    void operatorOnlyFindsAssignedOrders() {
+        Long operatorId = userRepository.findByEmail("operator1@worktrack.com").orElseThrow().getId();
+
+        PageResponse<OrderResponse> result = orderSearchService.search("Production order", 0, 50);
+
+        assertThat(result.getItems()).isNotEmpty()
+                .allSatisfy(order -> assertThat(order.getAssignedTo().getId()).isEqualTo(operatorId));
+    }
+
+    private OrderRequest order(String product, String assignee) {
+        OrderRequest request = new OrderRequest();
+        request.setProduct(product);
+        request.setPriority("MEDIUM");
+        request.setAssignedToId(userRepository.findByEmail(assignee).orElseThrow().getId());
+        request.setDeadline(LocalDate.now().plusDays(7));
+        return request;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
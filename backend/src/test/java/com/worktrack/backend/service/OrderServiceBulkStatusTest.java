@@ -0,0 +1,128 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.BulkStatusChangeRequest;
+import com.worktrack.backend.dto.BulkStatusChangeResponse;
+import com.worktrack.backend.dto.BulkStatusChangeResponse.ItemResultDTO;
+import com.worktrack.backend.dto.OrderRequest;
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.repository.StatusLogRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class OrderServiceBulkStatusTest {
+
+    private static final String ADMIN = "admin@worktrack.com";
+    private static final String OPERATOR = "operator1@worktrack.com";
+    private static final String OTHER_OPERATOR = "operator2@worktrack.com";
+    private static final Long MISSING_ID = 999_999L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusLogRepository statusLogRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @AfterEach
+    void logout() {
+        TestAuth.logout();
+    }
+
+    @Test
+    void operatorGetsOneResultPerIdInRequestOrder() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse own = orderService.createOrder(order("Bulk own", OPERATOR));
+        OrderResponse foreign = orderService.createOrder(order("Bulk foreign", OTHER_OPERATOR));
+        OrderResponse ownToo = orderService.createOrder(order("Bulk own too", OPERATOR));
+
+        TestAuth.loginAs(userDetailsService, OPERATOR);
+        BulkStatusChangeResponse response = orderService.bulkUpdateOrderStatus(bulk("IN_PROGRESS",
+                ownToo.getId(), MISSING_ID, foreign.getId(), own.getId(), ownToo.getId()));
+
+        // El id repetido se procesa una sola vez, en su primera posición
+        assertThat(response.getResults())
+                .extracting(ItemResultDTO::getOrderId, ItemResultDTO::isSuccess, ItemResultDTO::getError)
+                .containsExactly(
+                        tuple(ownToo.getId(), true, null),
+                        tuple(MISSING_ID, false, "Orden no encontrada"),
+                        tuple(foreign.getId(), false, "No tienes permiso para actualizar esta orden"),
+                        tuple(own.getId(), true, null));
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getOrder().getStatus()).isEqualTo("IN_PROGRESS");
+
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        assertThat(orderService.getOrderById(own.getId()).getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(orderService.getOrderById(ownToo.getId()).getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(orderService.getOrderById(foreign.getId()).getStatus()).isEqualTo("PENDING");
+        assertThat(statusLogRepository.findByOrderIdInOrderByOrderIdAscCreatedAtAsc(List.of(ownToo.getId())))
+                .hasSize(1);
+    }
+
+    @Test
+    void nothingAllowedReturnsOnlyFailures() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse foreign = orderService.createOrder(order("Bulk only foreign", OTHER_OPERATOR));
+
+        TestAuth.loginAs(userDetailsService, OPERATOR);
+        BulkStatusChangeResponse response = orderService.bulkUpdateOrderStatus(bulk("COMPLETED",
+                foreign.getId(), MISSING_ID));
+
+        assertThat(response.getResults()).extracting(ItemResultDTO::getOrderId)
+                .containsExactly(foreign.getId(), MISSING_ID);
+        assertThat(response.getResults()).noneMatch(ItemResultDTO::isSuccess);
+        assertThat(response.getUpdated()).isZero();
+        assertThat(response.getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    void adminUpdatesOrdersOfAnyOperator() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse first = orderService.createOrder(order("Bulk admin 1", OPERATOR));
+        OrderResponse second = orderService.createOrder(order("Bulk admin 2", OTHER_OPERATOR));
+
+        BulkStatusChangeResponse response = orderService.bulkUpdateOrderStatus(bulk("COMPLETED",
+                second.getId(), first.getId()));
+
+        assertThat(response.getResults()).extracting(ItemResultDTO::getOrderId)
+                .containsExactly(second.getId(), first.getId());
+        assertThat(response.getResults()).allMatch(ItemResultDTO::isSuccess);
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(orderService.getOrderById(first.getId()).getStatus()).isEqualTo("COMPLETED");
+    }
+
+    private BulkStatusChangeRequest bulk(String newStatus, Long... orderIds) {
+        BulkStatusChangeRequest request = new BulkStatusChangeRequest();
+        request.setOrderIds(List.of(orderIds));
+        request.setNewStatus(newStatus);
+        request.setComment("Bulk test");
+        return request;
+    }
+
+    private OrderRequest order(String product, String assignee) {
+        OrderRequest request = new OrderRequest();
+        request.setProduct(product);
+        request.setPriority("MEDIUM");
+        request.setAssignedToId(userRepository.findByEmail(assignee).orElseThrow().getId());
+        request.setDeadline(LocalDate.now().plusDays(7));
+        return request;
+    }
+}
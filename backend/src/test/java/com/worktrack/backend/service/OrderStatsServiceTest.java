@@ -0,0 +1,186 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.BulkStatusChangeRequest;
+import com.worktrack.backend.dto.OrderRequest;
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.dto.StatusChangeRequest;
+import com.worktrack.backend.repository.CustomerRepository;
+import com.worktrack.backend.repository.MaterialRepository;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class OrderStatsServiceTest {
+
+    private static final String ADMIN = "admin@worktrack.com";
+    private static final String OPERATOR = "operator1@worktrack.com";
+    private static final String OTHER_OPERATOR = "operator2@worktrack.com";
+
+    // Claves no nulas del rollup; las filas que quedan a 0 no cuentan
+    private static final String STATS =
+            "SELECT stat_day, status, priority, assignee_id, customer_id, material_id, order_count " +
+            "FROM order_daily_stats WHERE order_count <> 0";
+
+    // La misma agrupación que OrderStatsService.rebuild, sin tocar la tabla
+    private static final String EXPECTED =
+            "SELECT CAST(created_at AS DATE), status, priority, " +
+            "COALESCE(assigned_to_id, 0), COALESCE(customer_id, 0), COALESCE(material_id, 0), COUNT(*) " +
+            "FROM orders " +
+            "GROUP BY CAST(created_at AS DATE), status, priority, " +
+            "COALESCE(assigned_to_id, 0), COALESCE(customer_id, 0), COALESCE(material_id, 0)";
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderImportService orderImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void logout() {
+        TestAuth.logout();
+    }
+
+    @Test
+    void deltasKeepRollupEqualToRebuild() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse created = orderService.createOrder(order("Stats created", OPERATOR));
+        OrderResponse moved = orderService.createOrder(order("Stats moved", OPERATOR));
+        OrderResponse deleted = orderService.createOrder(order("Stats deleted", OTHER_OPERATOR));
+
+        // Cambio de estado, de prioridad/asignado/cliente/material, masivo y borrado
+        orderService.updateOrderStatus(created.getId(), status("IN_PROGRESS"));
+        OrderRequest update = order("Stats moved", OTHER_OPERATOR);
+        update.setPriority("HIGH");
+        update.setCustomerId(customerRepository.findAll().get(0).getId());
+        update.setMaterialId(materialRepository.findAll().get(0).getId());
+        orderService.updateOrder(moved.getId(), update);
+        orderService.bulkUpdateOrderStatus(new BulkStatusChangeRequest(
+                List.of(created.getId(), moved.getId()), "COMPLETED", null));
+        orderService.deleteOrder(deleted.getId());
+        orderImportService.importCsv(csv("product,priority,assignedToId,deadline\n"
+                + "Stats imported,LOW," + userId(OPERATOR) + ",2030-01-15\n"
+                + "Stats imported 2,LOW," + userId(OPERATOR) + ",2030-01-15\n"));
+
+        assertRollupMatchesOrders();
+    }
+
+    @Test
+    void concurrentWritersKeepRollupConsistent() throws Exception {
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String product = "Stats concurrent " + i;
+                tasks.add(() -> {
+                    // El SecurityContext es por hilo
+                    TestAuth.loginAs(userDetailsService, ADMIN);
+                    try {
+                        // Todas las órdenes comparten clave de rollup: mismas filas en conflicto
+                        for (int j = 0; j < 5; j++) {
+                            OrderResponse order = orderService.createOrder(order(product, OPERATOR));
+                            orderService.updateOrderStatus(order.getId(), status("IN_PROGRESS"));
+                        }
+                    } finally {
+                        TestAuth.logout();
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertRollupMatchesOrders();
+    }
+
+    @Test
+    void rebuildReplacesDriftedRows() {
+        jdbcTemplate.update("UPDATE order_daily_stats SET order_count = order_count + 100");
+
+        orderStatsService.rebuild();
+
+        assertRollupMatchesOrders();
+    }
+
+    private void assertRollupMatchesOrders() {
+        assertThat(rows(STATS)).containsExactlyInAnyOrderElementsOf(rows(EXPECTED));
+    }
+
+    private List<List<Object>> rows(String sql) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            List<Object> row = new ArrayList<>();
+            row.add(rs.getObject(1, LocalDate.class));
+            for (int i = 2; i <= 3; i++) {
+                row.add(rs.getString(i));
+            }
+            for (int i = 4; i <= 7; i++) {
+                row.add(rs.getLong(i));
+            }
+            return row;
+        });
+    }
+
+    private StatusChangeRequest status(String newStatus) {
+        StatusChangeRequest request = new StatusChangeRequest();
+        request.setNewStatus(newStatus);
+        return request;
+    }
+
+    private OrderRequest order(String product, String assignee) {
+        OrderRequest request = new OrderRequest();
+        request.setProduct(product);
+        request.setPriority("MEDIUM");
+        request.setAssignedToId(userId(assignee));
+        request.setDeadline(LocalDate.now().plusDays(7));
+        return request;
+    }
+
+    private Long userId(String email) {
+        return userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "orders.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package com.worktrack.backend.service;
+
+import com.worktrack.backend.dto.OrderChangesResponse;
+import com.worktrack.backend.dto.OrderRequest;
+import com.worktrack.backend.dto.OrderResponse;
+import com.worktrack.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class OrderSyncServiceTest {
+
+    private static final String ADMIN = "admin@worktrack.com";
+    private static final String OPERATOR = "operator1@worktrack.com";
+    private static final String OTHER_OPERATOR = "operator2@worktrack.com";
+
+    @Autowired
+    private OrderSyncService orderSyncService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Value("${orders.sync.safety-window-seconds}")
+    private long safetyWindowSeconds;
+
+    @AfterEach
+    void logout() {
+        TestAuth.logout();
+    }
+
+    @Test
+    void pagesNeverPassTheSafetyHorizon() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse recent = orderService.createOrder(order("Sync horizon", OPERATOR));
+
+        List<Long> delivered = new ArrayList<>();
+        String token = null;
+        boolean hasMore = true;
+        int pages = 0;
+        while (hasMore) {
+            LocalDateTime horizon = LocalDateTime.now().minusSeconds(safetyWindowSeconds);
+            OrderChangesResponse page = orderSyncService.getChanges(token, 30);
+            page.getOrders().forEach(order -> delivered.add(order.getId()));
+            token = page.getNextToken();
+            hasMore = page.isHasMore();
+            pages++;
+
+            // Ni los tokens intermedios ni el último superan ahora - safetyWindow
+            assertThat(tokenTimestamp(token)).isBeforeOrEqualTo(horizon.plusSeconds(1));
+        }
+
+        assertThat(pages).isGreaterThan(1);
+        assertThat(delivered).doesNotHaveDuplicates().doesNotContain(recent.getId());
+    }
+
+    @Test
+    void removedSkipsOrdersReassignedBackToTheOperator() {
+        TestAuth.loginAs(userDetailsService, OPERATOR);
+        String token = syncAll();
+
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        OrderResponse returned = orderService.createOrder(order("Sync returned", OPERATOR));
+        reassign(returned, OTHER_OPERATOR);
+        reassign(returned, OPERATOR);
+        OrderResponse moved = orderService.createOrder(order("Sync moved", OPERATOR));
+        reassign(moved, OTHER_OPERATOR);
+
+        TestAuth.loginAs(userDetailsService, OPERATOR);
+        OrderChangesResponse changes = orderSyncService.getChanges(token, null);
+
+        assertThat(changes.getRemoved()).contains(moved.getId()).doesNotContain(returned.getId());
+    }
+
+    @Test
+    void deletedOrdersAreReportedToAdmins() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        String token = syncAll();
+        OrderResponse deleted = orderService.createOrder(order("Sync deleted", OPERATOR));
+        orderService.deleteOrder(deleted.getId());
+
+        OrderChangesResponse changes = orderSyncService.getChanges(token, null);
+
+        assertThat(changes.getRemoved()).contains(deleted.getId());
+        assertThat(changes.getOrders()).extracting(OrderResponse::getId).doesNotContain(deleted.getId());
+    }
+
+    @Test
+    void tokenOlderThanTombstoneRetentionRequiresResync() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+        LocalDateTime old = LocalDateTime.now().minusDays(60);
+
+        OrderChangesResponse changes = orderSyncService.getChanges(token(old, 0L, old), null);
+
+        assertThat(changes.isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        TestAuth.loginAs(userDetailsService, ADMIN);
+
+        assertThatThrownBy(() -> orderSyncService.getChanges("not-a-token", null))
+                .hasMessage("Token de sincronización inválido");
+    }
+
+    private String syncAll() {
+        OrderChangesResponse page = orderSyncService.getChanges(null, null);
+        while (page.isHasMore()) {
+            page = orderSyncService.getChanges(page.getNextToken(), null);
+        }
+        return page.getNextToken();
+    }
+
+    private void reassign(OrderResponse order, String assignee) {
+        OrderRequest request = order(order.getProduct(), assignee);
+        request.setPriority(order.getPriority());
+        request.setDeadline(order.getDeadline());
+        orderService.updateOrder(order.getId(), request);
+    }
+
+    private OrderRequest order(String product, String assignee) {
+        OrderRequest request = new OrderRequest();
+        request.setProduct(product);
+        request.setPriority("MEDIUM");
+        request.setAssignedToId(userRepository.findByEmail(assignee).orElseThrow().getId());
+        request.setDeadline(LocalDate.now().plusDays(7));
+        return request;
+    }
+
+    // Formato interno del token: Base64 URL de "updatedAt|id|removedSince"
+    private static LocalDateTime tokenTimestamp(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        return LocalDateTime.parse(raw.split("\\|")[0]);
+    }
+
+    private static String token(LocalDateTime timestamp, Long id, LocalDateTime removedSince) {
+        String raw = timestamp + "|" + id + "|" + removedSince;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
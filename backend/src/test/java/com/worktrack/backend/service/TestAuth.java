@@ -0,0 +1,26 @@
+package com.worktrack.backend.service;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Cambia el usuario autenticado dentro de un test (p. ej. el admin reasigna y el operator
+ * sincroniza). Para un único usuario basta con @WithUserDetails.
+ */
+final class TestAuth {
+
+    private TestAuth() {
+    }
+
+    static void loginAs(UserDetailsService userDetailsService, String email) {
+        UserDetails user = userDetailsService.loadUserByUsername(email);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    static void logout() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -1,16 +1,10 @@
 import { useState, useMemo } from 'react';
 
-export function useFilters<T>(
-  items: T[],
-  filterFn: (item: T, filters: Record<string, any>) => boolean
-) {
+// Filter state only, for lists that are filtered by the backend
+export function useFilterState() {
   const [filters, setFilters] = useState<Record<string, any>>({});
   const [isFilterPanelOpen, setIsFilterPanelOpen] = useState(false);
 
-  const filteredItems = useMemo(() => {
-    return items.filter((item) => filterFn(item, filters));
-  }, [items, filters, filterFn]);
-
   const handleFilterChange = (field: string, value: any) => {
     setFilters((prev) => ({
       ...prev,
@@ -28,7 +22,6 @@ export function useFilters<T>(
 
   return {
     filters,
-    filteredItems,
     isFilterPanelOpen,
     handleFilterChange,
     handleClearFilters,
@@ -36,6 +29,23 @@ export function useFilters<T>(
   };
 }
 
+export function useFilters<T>(
+  items: T[],
+  filterFn: (item: T, filters: Record<string, any>) => boolean
+) {
+  const filterState = useFilterState();
+  const { filters } = filterState;
+
+  const filteredItems = useMemo(() => {
+    return items.filter((item) => filterFn(item, filters));
+  }, [items, filters, filterFn]);
+
+  return {
+    ...filterState,
+    filteredItems,
+  };
+}
+
 // Utility functions for common filter operations
 export const filterHelpers = {
   // Check if text matches (case-insensitive)
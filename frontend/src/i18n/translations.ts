@@ -90,6 +90,7 @@ export const translations = {
     editOrder: '注文を編集',
     changeStatus: 'ステータス変更',
     statusHistory: 'ステータス履歴',
+    loadMoreHistory: 'さらに表示',
     orderInfo: '注文情報',
     orderId: '注文ID',
     lastUpdated: '最終更新',
@@ -296,6 +297,7 @@ export const translations = {
     editOrder: 'Edit Order',
     changeStatus: 'Change Status',
     statusHistory: 'Status History',
+    loadMoreHistory: 'Show more',
     orderInfo: 'Order Information',
     orderId: 'Order ID',
     lastUpdated: 'Last Updated',
@@ -1,8 +1,8 @@
 import React, { useState, useEffect } from 'react';
 import { useLanguage } from '../context/LanguageContext';
 import Layout from '../components/Layout';
-import { ordersAPI, usersAPI, customersAPI, materialsAPI } from '../services/api';
-import type { Order, UserDetail, Customer, Material } from '../types';
+import { dashboardAPI } from '../services/api';
+import type { DashboardData } from '../types';
 import {
   BarChart,
   Bar,
@@ -42,95 +42,72 @@ type DateRange = 'today' | 'week' | 'month' | 'last3months' | 'last6months' | 'y
 
 const DashboardPage: React.FC = () => {
   const { t } = useLanguage();
-  const [orders, setOrders] = useState<Order[]>([]);
-  const [users, setUsers] = useState<UserDetail[]>([]);
-  const [customers, setCustomers] = useState<Customer[]>([]);
-  const [materials, setMaterials] = useState<Material[]>([]);
+  const [dashboard, setDashboard] = useState<DashboardData | null>(null);
   const [loading, setLoading] = useState(true);
   const [dateRange, setDateRange] = useState<DateRange>('all');
   const [customStartDate, setCustomStartDate] = useState('');
   const [customEndDate, setCustomEndDate] = useState('');
 
-  useEffect(() => {
-    fetchData();
-  }, []);
-
-  const fetchData = async () => {
-    try {
-      setLoading(true);
-      const [ordersRes, usersRes, customersRes, materialsRes] = await Promise.all([
-        ordersAPI.getAll(),
-        usersAPI.getAll(),
-        customersAPI.getAll(),
-        materialsAPI.getAll(),
-      ]);
-      setOrders(ordersRes.data);
-      setUsers(usersRes.data);
-      setCustomers(customersRes.data);
-      setMaterials(materialsRes.data);
-    } catch (err) {
-      console.error('Failed to fetch dashboard data:', err);
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  // Filter orders by date range
-  const filteredOrders = React.useMemo(() => {
-    // Get date range bounds inside useMemo
+  // Date range bounds sent to the backend (null = no bound)
+  const bounds = React.useMemo(() => {
     const now = new Date();
-    let bounds = null;
 
     switch (dateRange) {
       case 'today':
-        bounds = { start: startOfDay(now), end: endOfDay(now) };
-        break;
+        return { start: startOfDay(now), end: endOfDay(now) };
       case 'week':
-        bounds = { start: startOfWeek(now), end: endOfWeek(now) };
-        break;
+        return { start: startOfWeek(now), end: endOfWeek(now) };
       case 'month':
-        bounds = { start: startOfMonth(now), end: endOfMonth(now) };
-        break;
+        return { start: startOfMonth(now), end: endOfMonth(now) };
       case 'last3months':
-        bounds = { start: subMonths(now, 3), end: now };
-        break;
+        return { start: subMonths(now, 3), end: now };
       case 'last6months':
-        bounds = { start: subMonths(now, 6), end: now };
-        break;
+        return { start: subMonths(now, 6), end: now };
       case 'year':
-        bounds = { start: startOfYear(now), end: endOfYear(now) };
-        break;
+        return { start: startOfYear(now), end: endOfYear(now) };
       case 'custom':
         if (customStartDate && customEndDate) {
-          bounds = {
+          return {
             start: startOfDay(new Date(customStartDate)),
             end: endOfDay(new Date(customEndDate)),
           };
         }
-        break;
+        return null;
       case 'all':
       default:
-        bounds = null;
+        return null;
     }
+  }, [dateRange, customStartDate, customEndDate]);
 
-    if (!bounds) {
-      return orders;
-    }
+  useEffect(() => {
+    fetchData();
+  }, [bounds]);
 
-    return orders.filter((order) => {
-      const orderDate = new Date(order.createdAt);
-      return orderDate >= bounds.start && orderDate <= bounds.end;
-    });
-  }, [orders, dateRange, customStartDate, customEndDate]);
+  const fetchData = async () => {
+    try {
+      setLoading(dashboard === null);
+      // Local date-times, matching how order timestamps are stored
+      const response = await dashboardAPI.get(
+        bounds ? format(bounds.start, "yyyy-MM-dd'T'HH:mm:ss") : undefined,
+        bounds ? format(bounds.end, "yyyy-MM-dd'T'HH:mm:ss") : undefined
+      );
+      setDashboard(response.data);
+    } catch (err) {
+      console.error('Failed to fetch dashboard data:', err);
+    } finally {
+      setLoading(false);
+    }
+  };
 
-  // KPIs (using filtered orders)
-  const totalOrders = filteredOrders.length;
-  const completedOrders = filteredOrders.filter((o) => o.status === 'COMPLETED').length;
-  const deliveredOrders = filteredOrders.filter((o) => o.status === 'DELIVERED').length;
-  const pendingOrders = filteredOrders.filter((o) => o.status === 'PENDING').length;
-  const inProgressOrders = filteredOrders.filter((o) => o.status === 'IN_PROGRESS').length;
+  // KPIs (aggregated by the backend for the selected range)
+  const byStatus = dashboard?.ordersByStatus;
+  const totalOrders = dashboard?.totalOrders ?? 0;
+  const completedOrders = byStatus?.COMPLETED ?? 0;
+  const deliveredOrders = byStatus?.DELIVERED ?? 0;
+  const pendingOrders = byStatus?.PENDING ?? 0;
+  const inProgressOrders = byStatus?.IN_PROGRESS ?? 0;
 
-  const completionRate = totalOrders > 0 ? ((completedOrders + deliveredOrders) / totalOrders) * 100 : 0;
+  const completionRate = dashboard?.completionRate ?? 0;
 
   // Orders by status (filter out 0 values to avoid overlapping labels)
   const ordersByStatus = [
@@ -142,71 +119,32 @@ const DashboardPage: React.FC = () => {
 
   // Orders by priority (filter out 0 values)
   const ordersByPriority = [
-    { name: t('high'), value: filteredOrders.filter((o) => o.priority === 'HIGH').length },
-    { name: t('medium'), value: filteredOrders.filter((o) => o.priority === 'MEDIUM').length },
-    { name: t('low'), value: filteredOrders.filter((o) => o.priority === 'LOW').length },
+    { name: t('high'), value: dashboard?.ordersByPriority.HIGH ?? 0 },
+    { name: t('medium'), value: dashboard?.ordersByPriority.MEDIUM ?? 0 },
+    { name: t('low'), value: dashboard?.ordersByPriority.LOW ?? 0 },
   ].filter((priority) => priority.value > 0);
 
   // Top materials used
-  const materialUsage = materials
-    .map((material) => {
-      const usageCount = filteredOrders.filter((o) => o.material?.id === material.id).length;
-      return {
-        name: material.name,
-        orders: usageCount,
-      };
-    })
-    .filter((m) => m.orders > 0)
-    .sort((a, b) => b.orders - a.orders)
-    .slice(0, 5);
+  const materialUsage = (dashboard?.topMaterials ?? []).map((material) => ({
+    name: material.name,
+    orders: material.orders,
+  }));
 
   // Top customers
-  const customerOrders = customers
-    .map((customer) => {
-      const orderCount = filteredOrders.filter((o) => o.customer?.id === customer.id).length;
-      return {
-        name: customer.name,
-        orders: orderCount,
-      };
-    })
-    .filter((c) => c.orders > 0)
-    .sort((a, b) => b.orders - a.orders)
-    .slice(0, 5);
+  const customerOrders = (dashboard?.topCustomers ?? []).map((customer) => ({
+    name: customer.name,
+    orders: customer.orders,
+  }));
 
   // Orders trend (last 6 months) - filtered by date range
-  const monthlyTrend = Array.from({ length: 6 }, (_, i) => {
-    const monthDate = subMonths(new Date(), 5 - i);
-    const monthStart = startOfMonth(monthDate);
-    const monthEnd = endOfMonth(monthDate);
-    const monthOrders = filteredOrders.filter((o) => {
-      const createdDate = new Date(o.createdAt);
-      return createdDate >= monthStart && createdDate <= monthEnd;
-    });
-
-    return {
-      month: format(monthDate, 'MMM yyyy'),
-      orders: monthOrders.length,
-      completed: monthOrders.filter((o) => o.status === 'COMPLETED' || o.status === 'DELIVERED').length,
-    };
-  });
+  const monthlyTrend = (dashboard?.monthlyTrend ?? []).map((month) => ({
+    month: format(new Date(`${month.month}-01T00:00:00`), 'MMM yyyy'),
+    orders: month.orders,
+    completed: month.completed,
+  }));
 
   // Top operators - filtered by date range
-  const operatorStats = users
-    .map((user) => {
-      const assignedOrders = filteredOrders.filter((o) => o.assignedTo?.id === user.id);
-      const completedCount = assignedOrders.filter(
-        (o) => o.status === 'COMPLETED' || o.status === 'DELIVERED'
-      ).length;
-      return {
-        name: user.name,
-        total: assignedOrders.length,
-        completed: completedCount,
-        rate: assignedOrders.length > 0 ? (completedCount / assignedOrders.length) * 100 : 0,
-      };
-    })
-    .filter((u) => u.total > 0)
-    .sort((a, b) => b.total - a.total)
-    .slice(0, 5);
+  const operatorStats = dashboard?.topOperators ?? [];
 
   if (loading) {
     return (
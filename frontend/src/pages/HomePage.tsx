@@ -8,11 +8,11 @@ import NewOrderModal from '../components/NewOrderModal';
 import OrderDetailModal from '../components/OrderDetailModal';
 import FilterPanel from '../components/FilterPanel';
 import { ordersAPI, usersAPI, customersAPI, materialsAPI } from '../services/api';
-import type { Order, OrderStatus, UserDetail, Customer, Material } from '../types';
+import type { Order, OrderFilterParams, OrderStatus, UserDetail, Customer, Material } from '../types';
 import { Plus } from 'lucide-react';
 import { getStatusLabel } from '../utils/translationHelpers';
 import { getColumnColor } from '../utils/helpers';
-import { useFilters, filterHelpers } from '../hooks/useFilters';
+import { useFilterState } from '../hooks/useFilters';
 import {
   DndContext,
   DragEndEvent,
@@ -27,8 +27,26 @@ import { SortableContext, verticalListSortingStrategy } from '@dnd-kit/sortable'
 import { useSortable } from '@dnd-kit/sortable';
 import { CSS } from '@dnd-kit/utilities';
 
+// Most recent orders loaded on the board for the current filters
+const BOARD_PAGE_SIZE = 200;
+
+const toOrderFilterParams = (filters: Record<string, any>): OrderFilterParams => ({
+  q: filters.search || undefined,
+  status: filters.status || undefined,
+  priority: filters.priority || undefined,
+  assignedToId: filters.assignedTo || undefined,
+  customerId: filters.customer || undefined,
+  materialId: filters.material || undefined,
+  deadlineFrom: filters.deadline?.from || undefined,
+  deadlineTo: filters.deadline?.to || undefined,
+  quantityMin: filters.quantity?.min || undefined,
+  quantityMax: filters.quantity?.max || undefined,
+});
+
 const HomePage: React.FC = () => {
   const [orders, setOrders] = useState<Order[]>([]);
+  const [totalCount, setTotalCount] = useState(0);
+  const [matchingCount, setMatchingCount] = useState(0);
   const [users, setUsers] = useState<UserDetail[]>([]);
   const [customers, setCustomers] = useState<Customer[]>([]);
   const [materials, setMaterials] = useState<Material[]>([]);
@@ -54,56 +72,14 @@ const HomePage: React.FC = () => {
     })
   );
 
-  // Filter configuration
-  const filterOrdersFn = (order: Order, filters: Record<string, any>) => {
-    // Text search (product, description, machine)
-    if (
-      filters.search &&
-      !filterHelpers.textMatches(order.product, filters.search) &&
-      !filterHelpers.textMatches(order.description, filters.search) &&
-      !filterHelpers.textMatches(order.machine, filters.search)
-    ) {
-      return false;
-    }
-
-    // Status filter
-    if (!filterHelpers.exactMatch(order.status, filters.status)) return false;
-
-    // Priority filter
-    if (!filterHelpers.exactMatch(order.priority, filters.priority)) return false;
-
-    // Assigned to filter
-    if (!filterHelpers.exactMatch(order.assignedTo?.id?.toString(), filters.assignedTo)) {
-      return false;
-    }
-
-    // Customer filter
-    if (!filterHelpers.exactMatch(order.customer?.id?.toString(), filters.customer)) {
-      return false;
-    }
-
-    // Material filter
-    if (!filterHelpers.exactMatch(order.material?.id?.toString(), filters.material)) {
-      return false;
-    }
-
-    // Deadline range filter
-    if (!filterHelpers.dateInRange(order.deadline, filters.deadline)) return false;
-
-    // Quantity range filter
-    if (!filterHelpers.numberInRange(order.quantity, filters.quantity)) return false;
-
-    return true;
-  };
-
+  // Filters are applied by the backend (/orders/filter); the panel only holds their state
   const {
     filters,
-    filteredItems: filteredOrders,
     isFilterPanelOpen,
     handleFilterChange,
     handleClearFilters,
     toggleFilterPanel,
-  } = useFilters(orders, filterOrdersFn);
+  } = useFilterState();
 
   useEffect(() => {
     fetchData();
@@ -113,12 +89,14 @@ const HomePage: React.FC = () => {
     try {
       setLoading(true);
       const [ordersRes, usersRes, customersRes, materialsRes] = await Promise.all([
-        ordersAPI.getAll(),
+        ordersAPI.filter({}, 0, BOARD_PAGE_SIZE),
         usersAPI.getAll(),
         customersAPI.getAll(),
         materialsAPI.getAll(),
       ]);
-      setOrders(ordersRes.data);
+      setOrders(ordersRes.data.items);
+      setTotalCount(ordersRes.data.totalElements);
+      setMatchingCount(ordersRes.data.totalElements);
       setUsers(usersRes.data);
       setCustomers(customersRes.data);
       setMaterials(materialsRes.data);
@@ -132,18 +110,30 @@ const HomePage: React.FC = () => {
 
   const fetchOrders = async () => {
     try {
-      const response = await ordersAPI.getAll();
-      setOrders(response.data);
+      const params = toOrderFilterParams(filters);
+      const response = await ordersAPI.filter(params, 0, BOARD_PAGE_SIZE);
+      setOrders(response.data.items);
+      setMatchingCount(response.data.totalElements);
+      if (Object.values(params).every((value) => value === undefined)) {
+        setTotalCount(response.data.totalElements);
+      }
     } catch (err: any) {
       setError(t('fetchOrdersFailed'));
       console.error(err);
     }
   };
 
+  // Re-query the backend when filters change (debounced for text input)
+  useEffect(() => {
+    if (loading) return;
+    const timeout = setTimeout(fetchOrders, 300);
+    return () => clearTimeout(timeout);
+  }, [filters]);
+
   const statuses: OrderStatus[] = ['PENDING', 'IN_PROGRESS', 'COMPLETED', 'DELIVERED'];
 
   const getOrdersByStatus = (status: OrderStatus) => {
-    return filteredOrders.filter((order) => order.status === status);
+    return orders.filter((order) => order.status === status);
   };
 
   // Filter configurations
@@ -309,7 +299,7 @@ const HomePage: React.FC = () => {
         <div>
           <h2 className="text-2xl font-bold text-gray-900 dark:text-gray-100">{t('productionOrders')}</h2>
           <p className="text-sm text-gray-600 dark:text-gray-400 mt-1">
-            {t('totalOrders', { count: orders.length })}
+            {t('totalOrders', { count: totalCount })}
           </p>
         </div>
 
@@ -333,8 +323,8 @@ const HomePage: React.FC = () => {
           onFilterChange={handleFilterChange}
           onClearFilters={handleClearFilters}
           filterConfigs={filterConfigs}
-          resultsCount={filteredOrders.length}
-          totalCount={orders.length}
+          resultsCount={matchingCount}
+          totalCount={totalCount}
         />
       )}
 
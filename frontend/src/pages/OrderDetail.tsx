@@ -41,6 +41,9 @@ const OrderDetail: React.FC = () => {
     comment: '',
   });
   const [updatingStatus, setUpdatingStatus] = useState(false);
+  // The detail only carries the latest status changes; older ones are paged from /history
+  const [historyCursor, setHistoryCursor] = useState<string | undefined>(undefined);
+  const [loadingHistory, setLoadingHistory] = useState(false);
 
   useEffect(() => {
     if (id) {
@@ -53,6 +56,7 @@ const OrderDetail: React.FC = () => {
       setLoading(true);
       const response = await ordersAPI.getById(Number(id));
       setOrder(response.data);
+      setHistoryCursor(undefined);
     } catch (err: any) {
       setError(t('fetchOrderFailed'));
     } finally {
@@ -60,6 +64,27 @@ const OrderDetail: React.FC = () => {
     }
   };
 
+  const loadMoreHistory = async () => {
+    if (!order) return;
+
+    try {
+      setLoadingHistory(true);
+      // First page again on the first click: the detail response carries no cursor
+      const response = await ordersAPI.getHistory(order.id, 100, historyCursor);
+      const page = response.data;
+      setOrder({
+        ...order,
+        statusLogs: historyCursor ? [...(order.statusLogs || []), ...page.items] : page.items,
+        hasMoreStatusLogs: page.hasMore,
+      });
+      setHistoryCursor(page.nextCursor || undefined);
+    } catch (err: any) {
+      setError(t('fetchOrderFailed'));
+    } finally {
+      setLoadingHistory(false);
+    }
+  };
+
   const handleStatusChange = async () => {
     if (!order) return;
 
@@ -280,6 +305,15 @@ const OrderDetail: React.FC = () => {
                     </div>
                   ))}
                 </div>
+                {order.hasMoreStatusLogs && (
+                  <button
+                    onClick={loadMoreHistory}
+                    disabled={loadingHistory}
+                    className="mt-4 text-sm font-medium text-blue-600 hover:text-blue-800 disabled:opacity-50"
+                  >
+                    {t('loadMoreHistory')}
+                  </button>
+                )}
               </div>
             )}
           </div>
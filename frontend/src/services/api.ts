@@ -1,14 +1,23 @@
 import axios from 'axios';
 import type {
+  BulkStatusChangeRequest,
+  BulkStatusChangeResponse,
   Customer,
+  CursorPage,
+  DashboardData,
   CustomerRequest,
   LoginRequest,
   LoginResponse,
   Material,
   MaterialRequest,
   Order,
+  OrderChanges,
+  OrderFilterParams,
+  OrderImportResult,
   OrderRequest,
+  PageResponse,
   StatusChangeRequest,
+  StatusLog,
   UserBasic,
   UserDetail,
   UserRequest
@@ -58,13 +67,34 @@ export const authAPI = {
 // Orders API
 export const ordersAPI = {
   getAll: () => api.get<Order[]>('/orders'),
+  getPage: (limit: number, cursor?: string) =>
+    api.get<CursorPage<Order>>('/orders', { params: { limit, cursor } }),
+  filter: (filters: OrderFilterParams, page = 0, size = 50, sort = 'createdAt,desc') =>
+    api.get<PageResponse<Order>>('/orders/filter', { params: { ...filters, page, size, sort } }),
+  getChanges: (since?: string, limit?: number) =>
+    api.get<OrderChanges>('/orders/changes', { params: { since, limit } }),
+  search: (q: string, page = 0, size = 20) =>
+    api.get<PageResponse<Order>>('/orders/search', { params: { q, page, size } }),
   getById: (id: number) => api.get<Order>(`/orders/${id}`),
+  getHistory: (id: number, limit?: number, cursor?: string) =>
+    api.get<CursorPage<StatusLog>>(`/orders/${id}/history`, { params: { limit, cursor } }),
   create: (data: OrderRequest) => api.post<Order>('/orders', data),
   update: (id: number, data: OrderRequest) => api.put<Order>(`/orders/${id}`, data),
   delete: (id: number) => api.delete(`/orders/${id}`),
   updateStatus: (id: number, data: StatusChangeRequest) =>
     api.patch<Order>(`/orders/${id}/status`, data),
+  bulkUpdateStatus: (data: BulkStatusChangeRequest) =>
+    api.patch<BulkStatusChangeResponse>('/orders/status', data),
+  importCsv: (file: File) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    return api.post<OrderImportResult>('/orders/import', formData, {
+      headers: { 'Content-Type': 'multipart/form-data' },
+    });
+  },
   getByStatus: (status: string) => api.get<Order[]>(`/orders/status/${status}`),
+  getByStatusPage: (status: string, limit: number, cursor?: string) =>
+    api.get<CursorPage<Order>>(`/orders/status/${status}`, { params: { limit, cursor } }),
 };
 
 // Users API
@@ -97,4 +127,9 @@ export const materialsAPI = {
   delete: (id: number) => api.delete(`/materials/${id}`),
 };
 
+// Dashboard API
+export const dashboardAPI = {
+  get: (from?: string, to?: string) => api.get<DashboardData>('/dashboard', { params: { from, to } }),
+};
+
 export default api;
@@ -78,6 +78,47 @@ export interface Order {
   createdAt: string;
   updatedAt: string;
   statusLogs?: StatusLog[];
+  hasMoreStatusLogs?: boolean;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string;
+  hasMore: boolean;
+  limit: number;
+}
+
+export interface OrderChanges {
+  orders: Order[];
+  removed: number[];
+  nextToken: string | null;
+  hasMore: boolean;
+  // Returned with HTTP 410: the token is older than the tombstone retention, sync again without it
+  resyncRequired: boolean;
+}
+
+export interface PageResponse<T> {
+  items: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
+export interface OrderFilterParams {
+  status?: OrderStatus;
+  priority?: OrderPriority;
+  assignedToId?: number | string;
+  customerId?: number | string;
+  materialId?: number | string;
+  machine?: string;
+  deadlineFrom?: string;
+  deadlineTo?: string;
+  createdFrom?: string;
+  createdTo?: string;
+  quantityMin?: number | string;
+  quantityMax?: number | string;
+  q?: string;
 }
 
 export interface OrderRequest {
@@ -97,6 +138,38 @@ export interface StatusChangeRequest {
   machine?: string;
 }
 
+export interface BulkStatusChangeRequest {
+  orderIds: number[];
+  newStatus: OrderStatus;
+  comment?: string;
+}
+
+export interface BulkStatusChangeResult {
+  orderId: number;
+  success: boolean;
+  error?: string;
+  order?: Order;
+}
+
+export interface BulkStatusChangeResponse {
+  updated: number;
+  failed: number;
+  results: BulkStatusChangeResult[];
+}
+
+export interface OrderImportRowError {
+  row: number;
+  message: string;
+}
+
+export interface OrderImportResult {
+  totalRows: number;
+  imported: number;
+  failed: number;
+  errors: OrderImportRowError[];
+  errorsTruncated: boolean;
+}
+
 export interface StatusLog {
   id: number;
   previousStatus: OrderStatus;
@@ -139,3 +212,37 @@ export interface UserRequest {
   password?: string;
   role: string;
 }
+
+export interface NamedCount {
+  id: number;
+  name: string;
+  orders: number;
+}
+
+export interface MonthlyTrend {
+  month: string; // yyyy-MM
+  orders: number;
+  completed: number;
+}
+
+export interface OperatorStats {
+  id: number;
+  name: string;
+  total: number;
+  completed: number;
+  rate: number;
+}
+
+export interface DashboardData {
+  from?: string;
+  to?: string;
+  totalOrders: number;
+  completionRate: number;
+  ordersByStatus: Record<OrderStatus, number>;
+  ordersByPriority: Record<OrderPriority, number>;
+  topMaterials: NamedCount[];
+  topCustomers: NamedCount[];
+  monthlyTrend: MonthlyTrend[];
+  topOperators: OperatorStats[];
+  statusChanges: number;
+}
@@ -0,0 +1,80 @@
+package com.worktrack.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente de la API con el token JWT del login. Un único HttpClient compartido por todos
+ * los usuarios virtuales (pool de conexiones HTTP/1.1 keep-alive, como un navegador).
+ */
+final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private volatile String token;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    void login(String email, String password) throws IOException, InterruptedException {
+        Response response = send("POST", "/api/auth/login", MAPPER.createObjectNode()
+                .put("email", email)
+                .put("password", password));
+        if (response.status() != 200) {
+            throw new IllegalStateException("Login fallido (" + response.status() + "): " + response.body());
+        }
+        token = response.json().path("token").asText();
+    }
+
+    Response get(String path) throws IOException, InterruptedException {
+        return send("GET", path, null);
+    }
+
+    Response send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    record Response(int status, String body) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() throws IOException {
+            return MAPPER.readTree(body);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.worktrack.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ids existentes contra los que se lanzan las operaciones de detalle y cambio de estado.
+ * Se descubren antes de empezar a partir de los listados y crecen con las creaciones.
+ */
+final class Dataset {
+
+    final IdPool orders = new IdPool();
+    final IdPool customers = new IdPool();
+    final IdPool materials = new IdPool();
+    final IdPool users = new IdPool();
+    final IdPool operators = new IdPool();
+
+    static Dataset discover(ApiClient client) throws IOException, InterruptedException {
+        Dataset data = new Dataset();
+
+        // Recorre el listado paginado por cursor hasta llenar el conjunto de órdenes
+        String cursor = null;
+        do {
+            String path = "/api/orders?limit=200" + (cursor != null ? "&cursor=" + cursor : "");
+            JsonNode page = expectOk(client.get(path), path);
+            for (JsonNode order : page.path("items")) {
+                data.orders.add(order.path("id").asLong());
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null && data.orders.size() < IdPool.CAPACITY / 2);
+
+        addIds(data.customers, expectOk(client.get("/api/customers"), "/api/customers"));
+        addIds(data.materials, expectOk(client.get("/api/materials"), "/api/materials"));
+        addIds(data.users, expectOk(client.get("/api/users"), "/api/users"));
+        addIds(data.operators, expectOk(client.get("/api/users/operators"), "/api/users/operators"));
+        return data;
+    }
+
+    private static JsonNode expectOk(ApiClient.Response response, String path) throws IOException {
+        if (response.status() != 200) {
+            throw new IllegalStateException("GET " + path + " devolvió " + response.status());
+        }
+        return response.json();
+    }
+
+    private static void addIds(IdPool pool, JsonNode items) {
+        for (JsonNode item : items) {
+            pool.add(item.path("id").asLong());
+        }
+    }
+
+    /**
+     * Buffer circular sin bloqueos: al llenarse, los ids nuevos sustituyen a los más antiguos.
+     */
+    static final class IdPool {
+
+        static final int CAPACITY = 1 << 16;
+
+        private final AtomicLongArray ids = new AtomicLongArray(CAPACITY);
+        private final AtomicInteger count = new AtomicInteger();
+
+        void add(long id) {
+            int index = count.getAndIncrement();
+            ids.set(index & (CAPACITY - 1), id);
+        }
+
+        long pick(SplittableRandom random) {
+            int size = size();
+            if (size == 0) {
+                throw new IllegalStateException("No hay ids disponibles para esta operación");
+            }
+            return ids.get(random.nextInt(size));
+        }
+
+        int size() {
+            return Math.min(count.get(), CAPACITY);
+        }
+
+        boolean isEmpty() {
+            return count.get() == 0;
+        }
+    }
+}
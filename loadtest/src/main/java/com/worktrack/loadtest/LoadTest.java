@@ -0,0 +1,164 @@
+package com.worktrack.loadtest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Generador de carga para la API de WorkTrack.
+ *
+ * Hace login, descubre ids existentes y lanza N usuarios virtuales (un hilo virtual cada uno)
+ * que ejecutan la mezcla de operaciones configurada. Sin --rate cada usuario encadena
+ * peticiones (modelo cerrado); con --rate las peticiones se programan a ritmo fijo y la
+ * latencia se mide desde el instante programado, de modo que un servidor lento no oculta
+ * sus colas (omisión coordinada).
+ */
+public class LoadTest {
+
+    private static final String USAGE = """
+            Uso: java -jar target/loadtest.jar [--clave=valor ...]
+              --url=http://localhost:8080   URL del backend
+              --email=admin@worktrack.com   usuario de login (ADMIN para poder crear)
+              --password=admin123
+              --users=50                    usuarios virtuales concurrentes
+              --duration=60                 segundos medidos
+              --warmup=15                   segundos de calentamiento, no se miden
+              --rate=0                      peticiones/s en total (0 = modelo cerrado)
+              --mix=orders.list=25,...      pesos por operación
+              --output=results              directorio de summary.json y *.hgrm
+              --seed=42
+            Operaciones: %s
+            """;
+
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.printf(USAGE, Arrays.stream(Operation.values()).map(Operation::key).collect(Collectors.joining(", ")));
+            return;
+        }
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ApiClient client = new ApiClient(config.baseUrl);
+        client.login(config.email, config.password);
+        Dataset data = Dataset.discover(client);
+        System.out.printf("Conectado a %s: %d órdenes, %d clientes, %d materiales, %d usuarios%n",
+                config.baseUrl, data.orders.size(), data.customers.size(), data.materials.size(), data.users.size());
+
+        new LoadTest(config, client, data).run();
+    }
+
+    private final LoadTestConfig config;
+    private final ApiClient client;
+    private final Dataset data;
+    private final Metrics metrics;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private volatile long endNanos;
+
+    LoadTest(LoadTestConfig config, ApiClient client, Dataset data) {
+        this.config = config;
+        this.client = client;
+        this.data = data;
+        this.metrics = new Metrics(config.mix.keySet());
+
+        // Selección ponderada: búsqueda sobre los pesos acumulados
+        this.operations = config.mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : config.mix.entrySet()) {
+            sum += entry.getValue();
+            cumulativeWeights[i++] = sum;
+        }
+    }
+
+    void run() throws InterruptedException, IOException {
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup.toNanos();
+        endNanos = measureStart + config.duration.toNanos();
+
+        System.out.printf("%d usuarios virtuales, %s, calentamiento %d s, medición %d s%n",
+                config.users, config.rate > 0 ? config.rate + " req/s" : "modelo cerrado",
+                config.warmup.toSeconds(), config.duration.toSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < config.users; user++) {
+                int id = user;
+                executor.submit(() -> virtualUser(id, start));
+            }
+
+            sleepUntil(measureStart);
+            metrics.reset();
+            long measured = System.nanoTime();
+            System.out.println("Calentamiento terminado, midiendo...");
+
+            // Progreso cada 10 s mientras dura la medición
+            long lastTotal = metrics.total();
+            long lastTime = measured;
+            while (System.nanoTime() < endNanos) {
+                sleepUntil(Math.min(lastTime + TimeUnit.SECONDS.toNanos(10), endNanos));
+                long now = System.nanoTime();
+                long total = metrics.total();
+                System.out.printf("  %d s: %.0f req/s%n",
+                        TimeUnit.NANOSECONDS.toSeconds(now - measured), (total - lastTotal) / ((now - lastTime) / 1e9));
+                lastTotal = total;
+                lastTime = now;
+            }
+            double seconds = (System.nanoTime() - measured) / 1e9;
+            metrics.report(seconds, config.output, System.out);
+        }
+    }
+
+    private void virtualUser(int id, long start) {
+        SplittableRandom random = new SplittableRandom(config.seed + id);
+        // Con --rate cada usuario aporta rate/users peticiones por segundo, desfasado para no ir en ráfagas
+        long interval = config.rate > 0 ? (long) (1e9 * config.users / config.rate) : 0;
+        long next = start + (interval > 0 ? random.nextLong(interval) : 0);
+
+        while (System.nanoTime() < endNanos) {
+            if (interval > 0) {
+                sleepUntil(next);
+                if (next >= endNanos) {
+                    return;
+                }
+            }
+            Operation operation = pick(random);
+            long requestStart = interval > 0 ? next : System.nanoTime();
+            boolean success;
+            try {
+                success = operation.execute(client, data, random).isSuccess();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                success = false;
+            }
+            metrics.record(operation, System.nanoTime() - requestStart, success);
+            next += interval;
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
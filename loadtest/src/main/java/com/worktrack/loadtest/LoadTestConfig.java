@@ -0,0 +1,78 @@
+package com.worktrack.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opciones de la línea de comandos (--clave=valor). Ver README.md para la lista completa.
+ */
+final class LoadTestConfig {
+
+    // Peso relativo de cada operación en la mezcla por defecto: sobre todo lecturas
+    static final String DEFAULT_MIX =
+            "orders.list=25,orders.detail=25,orders.status=10,orders.create=3," +
+            "customers.list=10,customers.detail=8,customers.create=1," +
+            "materials.list=8,materials.detail=5,materials.create=1," +
+            "users.list=2,users.detail=2";
+
+    String baseUrl = "http://localhost:8080";
+    String email = "admin@worktrack.com";
+    String password = "admin123";
+    int users = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(15);
+    // Peticiones por segundo en total; 0 = modelo cerrado (cada usuario encadena peticiones)
+    double rate = 0;
+    Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+    Path output = Path.of("results");
+    long seed = 42;
+
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento no válido: " + arg + " (formato --clave=valor)");
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "url" -> config.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "email" -> config.email = value;
+                case "password" -> config.password = value;
+                case "users" -> config.users = Integer.parseInt(value);
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "rate" -> config.rate = Double.parseDouble(value);
+                case "mix" -> config.mix = parseMix(value);
+                case "output" -> config.output = Path.of(value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Opción desconocida: --" + key);
+            }
+        }
+        if (config.users < 1) {
+            throw new IllegalArgumentException("--users debe ser al menos 1");
+        }
+        return config;
+    }
+
+    // "orders.list=25,orders.detail=10": operaciones no incluidas tienen peso 0
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mezcla no válida: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.byName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,121 @@
+package com.worktrack.loadtest;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias por operación en histogramas HDR (microsegundos, 3 dígitos significativos).
+ * Recorder permite registrar desde todos los usuarios virtuales sin bloqueos y descartar
+ * el calentamiento con un intervalo.
+ */
+final class Metrics {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder total = new LongAdder();
+
+    Metrics(Iterable<Operation> operations) {
+        for (Operation operation : operations) {
+            recorders.put(operation, new Recorder(MAX_LATENCY_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS);
+        recorders.get(operation).recordValue(Math.max(micros, 1));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+        total.increment();
+    }
+
+    long total() {
+        return total.sum();
+    }
+
+    // Descarta lo registrado hasta ahora (fin del calentamiento)
+    void reset() {
+        recorders.values().forEach(Recorder::getIntervalHistogram);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Imprime la tabla por endpoint y escribe summary.json y un .hgrm por operación.
+     */
+    void report(double seconds, Path output, PrintStream out) throws IOException {
+        Files.createDirectories(output);
+        ObjectNode summary = ApiClient.mapper().createObjectNode()
+                .put("durationSeconds", seconds);
+        ArrayNode endpoints = summary.putArray("endpoints");
+        Histogram all = new Histogram(MAX_LATENCY_MICROS, 3);
+        long allErrors = 0;
+
+        out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+            Operation operation = entry.getKey();
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            all.add(histogram);
+            allErrors += errorCount;
+
+            printRow(out, operation.endpoint(), histogram, errorCount, seconds);
+            endpoints.add(toJson(histogram, errorCount, seconds)
+                    .put("operation", operation.key())
+                    .put("endpoint", operation.endpoint()));
+            writeDistribution(histogram, output.resolve(operation.key() + ".hgrm"));
+        }
+        printRow(out, "TOTAL", all, allErrors, seconds);
+        summary.set("total", toJson(all, allErrors, seconds));
+        writeDistribution(all, output.resolve("total.hgrm"));
+
+        ApiClient.mapper().writerWithDefaultPrettyPrinter().writeValue(output.resolve("summary.json").toFile(), summary);
+        out.printf("%nResultados en %s (summary.json, *.hgrm)%n", output.toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errorCount, double seconds) {
+        long count = histogram.getTotalCount();
+        out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, count, errorCount, count / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static ObjectNode toJson(Histogram histogram, long errorCount, double seconds) {
+        return ApiClient.mapper().createObjectNode()
+                .put("requests", histogram.getTotalCount())
+                .put("errors", errorCount)
+                .put("throughput", histogram.getTotalCount() / seconds)
+                .put("meanMs", histogram.getTotalCount() > 0 ? histogram.getMean() / 1000.0 : 0)
+                .put("p50Ms", millis(histogram, 50))
+                .put("p90Ms", millis(histogram, 90))
+                .put("p99Ms", millis(histogram, 99))
+                .put("p999Ms", millis(histogram, 99.9))
+                .put("maxMs", histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    // Formato estándar de HdrHistogram, en milisegundos (se puede dibujar con HistogramLogAnalyzer)
+    private static void writeDistribution(Histogram histogram, Path file) throws IOException {
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(stream, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.worktrack.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Operaciones de la mezcla de carga. Cada una es un endpoint y se mide en su propio histograma.
+ */
+enum Operation {
+
+    ORDERS_LIST("orders.list", "GET /api/orders?limit=50") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/orders?limit=50");
+        }
+    },
+    ORDERS_DETAIL("orders.detail", "GET /api/orders/{id}") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/orders/" + data.orders.pick(random));
+        }
+    },
+    ORDERS_STATUS("orders.status", "PATCH /api/orders/{id}/status") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("newStatus", STATUSES[random.nextInt(STATUSES.length)])
+                    .put("comment", "load test");
+            return client.send("PATCH", "/api/orders/" + data.orders.pick(random) + "/status", body);
+        }
+    },
+    ORDERS_CREATE("orders.create", "POST /api/orders") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("product", "Load Test Part " + random.nextInt(10_000))
+                    .put("description", "Generated by the load test")
+                    .put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .put("assignedToId", data.operators.pick(random))
+                    .put("deadline", LocalDate.now().plusDays(1 + random.nextInt(30)).toString());
+            if (!data.customers.isEmpty()) {
+                body.put("customerId", data.customers.pick(random));
+            }
+            ApiClient.Response response = client.send("POST", "/api/orders", body);
+            // Las órdenes nuevas entran en el conjunto para detalle y cambios de estado
+            if (response.isSuccess()) {
+                data.orders.add(response.json().path("id").asLong());
+            }
+            return response;
+        }
+    },
+    CUSTOMERS_LIST("customers.list", "GET /api/customers") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/customers");
+        }
+    },
+    CUSTOMERS_DETAIL("customers.detail", "GET /api/customers/{id}") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/customers/" + data.customers.pick(random));
+        }
+    },
+    CUSTOMERS_CREATE("customers.create", "POST /api/customers") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("name", "Load Test Customer " + random.nextInt(100_000))
+                    .put("company", "Load Test Inc.");
+            ApiClient.Response response = client.send("POST", "/api/customers", body);
+            if (response.isSuccess()) {
+                data.customers.add(response.json().path("id").asLong());
+            }
+            return response;
+        }
+    },
+    MATERIALS_LIST("materials.list", "GET /api/materials") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/materials");
+        }
+    },
+    MATERIALS_DETAIL("materials.detail", "GET /api/materials/{id}") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/materials/" + data.materials.pick(random));
+        }
+    },
+    MATERIALS_CREATE("materials.create", "POST /api/materials") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("name", "Load Test Material " + random.nextInt(100_000))
+                    .put("unit", "kg")
+                    .put("stockQuantity", random.nextInt(1_000));
+            ApiClient.Response response = client.send("POST", "/api/materials", body);
+            if (response.isSuccess()) {
+                data.materials.add(response.json().path("id").asLong());
+            }
+            return response;
+        }
+    },
+    USERS_LIST("users.list", "GET /api/users") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/users");
+        }
+    },
+    USERS_DETAIL("users.detail", "GET /api/users/{id}") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            return client.get("/api/users/" + data.users.pick(random));
+        }
+    },
+    // Incluye el hash BCrypt de la contraseña: mide sobre todo CPU del servidor
+    USERS_CREATE("users.create", "POST /api/users") {
+        @Override
+        ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random) throws IOException, InterruptedException {
+            String suffix = Long.toHexString(random.nextLong());
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("name", "Load Test Operator " + suffix)
+                    .put("email", "loadtest-" + suffix + "@example.com")
+                    .put("password", "loadtest")
+                    .put("role", "OPERATOR");
+            ApiClient.Response response = client.send("POST", "/api/users", body);
+            if (response.isSuccess()) {
+                data.users.add(response.json().path("id").asLong());
+            }
+            return response;
+        }
+    };
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "DELIVERED"};
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    abstract ApiClient.Response execute(ApiClient client, Dataset data, SplittableRandom random)
+            throws IOException, InterruptedException;
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation byName(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida: " + key);
+    }
+}